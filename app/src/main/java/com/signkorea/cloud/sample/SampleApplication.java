@@ -0,0 +1,15 @@
+package com.signkorea.cloud.sample;
+
+import android.app.Application;
+
+import com.signkorea.cloud.sample.utils.StartupTracer;
+
+public class SampleApplication extends Application {
+    @Override
+    public void onCreate() {
+        super.onCreate();
+
+        // 콜드 스타트 측정: 앱 프로세스 시작부터 첫 화면 구성 완료(MainActivity.onCreate 종료)까지
+        StartupTracer.getInstance().begin(StartupTracer.PROCESS_START);
+    }
+}
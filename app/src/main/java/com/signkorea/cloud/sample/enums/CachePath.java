@@ -0,0 +1,17 @@
+package com.signkorea.cloud.sample.enums;
+
+// SDK 세션 캐시를 사용하는 호출 경로
+public enum CachePath {
+    exportCertificate,
+    koscomBriefSign;
+
+    public String getLabel() {
+        switch (this) {
+            case exportCertificate:
+                return "인증서 내려받기";
+            case koscomBriefSign:
+                return "축약서명";
+        }
+        return "";
+    }
+}
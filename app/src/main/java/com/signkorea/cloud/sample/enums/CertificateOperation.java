@@ -9,7 +9,15 @@ public enum CertificateOperation {
     issue,
     updateCloud,
     updateLocal,
-    unlock;
+    unlock,
+    sign,
+    briefSign,
+    signDocumentHash,
+    signBatch,
+    deleteAccount,
+    disconnect,
+    getAutoConnectDevices,
+    deleteAutoConnectDevice;
 
     public String getLabel() {
         switch (this) {
@@ -29,6 +37,20 @@ public enum CertificateOperation {
                 return "클라우드 인증서 갱신";
             case unlock:
                 return "인증서 잠금 해제";
+            case briefSign:
+                return "축약서명";
+            case signDocumentHash:
+                return "해시 서명";
+            case signBatch:
+                return "일괄 서명";
+            case deleteAccount:
+                return "계정 삭제";
+            case disconnect:
+                return "클라우드 연결 해제";
+            case getAutoConnectDevices:
+                return "자동 연결 기기 조회";
+            case deleteAutoConnectDevice:
+                return "자동 연결 기기 삭제";
             default:
                 return "전자서명";
         }
@@ -0,0 +1,59 @@
+package com.signkorea.cloud.sample.enums;
+
+import com.signkorea.cloud.sample.models.CertificateMetadata;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+public enum CertificateSource {
+    local,
+    cloudCache,
+    cloudServer,
+    bio;
+
+    public String getLabel() {
+        switch (this) {
+            case local:
+                return "Local";
+            case cloudCache:
+                return "Cloud-Cache";
+            case cloudServer:
+                return "Cloud-Server";
+            default:
+                return "Bio";
+        }
+    }
+
+    public static EnumSet<CertificateSource> of(CertificateMetadata cert) {
+        EnumSet<CertificateSource> sources = EnumSet.noneOf(CertificateSource.class);
+        if (cert.isCloud()) {
+            sources.add(cert.isCache() ? cloudCache : cloudServer);
+            if (cert.isBio())
+                sources.add(bio);
+        } else
+            sources.add(local);
+        return sources;
+    }
+
+    // 목록 화면 표시용 (예: "Local", "Cloud-Cache-Bio", "Local / Cloud-Server")
+    public static String describe(Set<CertificateSource> sources) {
+        List<String> labels = new ArrayList<>();
+        if (sources.contains(local))
+            labels.add(local.getLabel());
+
+        StringBuilder cloud = new StringBuilder();
+        if (sources.contains(cloudCache))
+            cloud.append(cloudCache.getLabel());
+        else if (sources.contains(cloudServer))
+            cloud.append(cloudServer.getLabel());
+        if (cloud.length() > 0) {
+            if (sources.contains(bio))
+                cloud.append('-').append(bio.getLabel());
+            labels.add(cloud.toString());
+        }
+
+        return String.join(" / ", labels);
+    }
+}
@@ -0,0 +1,53 @@
+package com.signkorea.cloud.sample.models;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 일괄 처리 결과 (항목별 성공/실패 집계)
+// 일부 항목이 실패해도 나머지 항목은 계속 처리하며 실패 원인은 항목별로 보관
+public class BatchResult<K> {
+    private final int total;
+    private final List<K> succeeded = new ArrayList<>();
+    private final Map<K, Exception> failures = new LinkedHashMap<>();
+
+    BatchResult(int total) {
+        this.total = total;
+    }
+
+    synchronized void succeed(@NonNull K key) {
+        succeeded.add(key);
+    }
+
+    synchronized void fail(@NonNull K key, @NonNull Exception e) {
+        failures.put(key, e);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public synchronized int getProcessedCount() {
+        return succeeded.size() + failures.size();
+    }
+
+    public synchronized boolean isFinished() {
+        return getProcessedCount() == total;
+    }
+
+    public synchronized boolean isAllSucceeded() {
+        return succeeded.size() == total;
+    }
+
+    public synchronized List<K> getSucceeded() {
+        return Collections.unmodifiableList(new ArrayList<>(succeeded));
+    }
+
+    public synchronized Map<K, Exception> getFailures() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+}
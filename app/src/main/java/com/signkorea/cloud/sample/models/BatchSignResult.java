@@ -0,0 +1,38 @@
+package com.signkorea.cloud.sample.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+// 일괄 서명 결과 (요청 순서대로 서명값, 실패한 항목은 오류)
+public class BatchSignResult {
+    private final byte[][] signatures;
+    private final BatchResult<Integer> result;
+
+    BatchSignResult(@NonNull byte[][] signatures, @NonNull BatchResult<Integer> result) {
+        this.signatures = signatures;
+        this.result = result;
+    }
+
+    public int size() {
+        return signatures.length;
+    }
+
+    // index번째 요청의 서명값, 실패한 경우 null
+    @Nullable
+    public byte[] getSignature(int index) {
+        return signatures[index];
+    }
+
+    @Nullable
+    public Exception getError(int index) {
+        return result.getFailures().get(index);
+    }
+
+    public boolean isAllSucceeded() {
+        return result.isAllSucceeded();
+    }
+
+    public BatchResult<Integer> getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+package com.signkorea.cloud.sample.models;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.lumensoft.ks.KSException;
+import com.signkorea.cloud.sample.enums.CachePath;
+import com.yettiesoft.cloud.NotCachedCertificateException;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// SDK 세션 캐시 사용 통계 (경로 × 인증서별 적중/실패/서버 대체 횟수)
+// - hit: 캐시로 처리
+// - miss: 캐시에 인증서가 없음
+// - fallback: 캐시 실패 후 서버 호출로 처리
+// 세션 통계는 클라우드 연결 해제/계정 삭제 시 새로 시작하고, 누적 통계는 앱 실행 동안 유지
+public class CacheMetrics {
+    public static class Counters {
+        private long hits;
+        private long misses;
+        private long fallbacks;
+
+        public synchronized long getHits() { return hits; }
+        public synchronized long getMisses() { return misses; }
+        public synchronized long getFallbacks() { return fallbacks; }
+
+        // 캐시 적중률 (0~1), 기록이 없으면 0
+        public synchronized double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        synchronized Counters copy() {
+            Counters copy = new Counters();
+            copy.hits = hits;
+            copy.misses = misses;
+            copy.fallbacks = fallbacks;
+            return copy;
+        }
+
+        synchronized void add(Counters other) {
+            Counters snapshot = other.copy();
+            hits += snapshot.hits;
+            misses += snapshot.misses;
+            fallbacks += snapshot.fallbacks;
+        }
+
+        @NonNull
+        @Override
+        public synchronized String toString() {
+            return String.format(Locale.US, "hit=%d\tmiss=%d\tfallback=%d\thitRate=%.2f",
+                    hits, misses, fallbacks, getHitRate());
+        }
+    }
+
+    private enum Event { hit, miss, fallback }
+
+    private final Map<CachePath, Map<String, Counters>> session = new EnumMap<>(CachePath.class);
+    private final Map<CachePath, Map<String, Counters>> total = new EnumMap<>(CachePath.class);
+    private int sessionNumber = 1;
+    private long sessionStartedAt = SystemClock.elapsedRealtime();
+
+    // 캐시 실패로 인한 예외인지 확인
+    public static boolean isCacheMiss(@Nullable Exception e) {
+        return e instanceof NotCachedCertificateException
+                || (e instanceof KSException && ((KSException) e).errorCode == KSException.FAILED_CLOUD_NO_CACHED_CERTIFICATE);
+    }
+
+    public void recordHit(@NonNull CachePath path, @Nullable String certId) {
+        record(path, certId, Event.hit);
+    }
+
+    public void recordMiss(@NonNull CachePath path, @Nullable String certId) {
+        record(path, certId, Event.miss);
+    }
+
+    public void recordFallback(@NonNull CachePath path, @Nullable String certId) {
+        record(path, certId, Event.fallback);
+    }
+
+    // 새 세션 시작 (이전 세션 통계 초기화)
+    public synchronized void startSession() {
+        session.clear();
+        sessionNumber++;
+        sessionStartedAt = SystemClock.elapsedRealtime();
+    }
+
+    // region 디버그 조회
+    public synchronized int getSessionNumber() {
+        return sessionNumber;
+    }
+
+    // 현재 세션의 경로별 합계
+    public synchronized Counters getSessionCounters(@NonNull CachePath path) {
+        return sum(session.get(path));
+    }
+
+    // 현재 세션의 인증서별 통계
+    public synchronized Map<String, Counters> getSessionCountersByCertificate(@NonNull CachePath path) {
+        return copy(session.get(path));
+    }
+
+    // 앱 실행 이후 누적 인증서별 통계
+    public synchronized Map<String, Counters> getTotalCountersByCertificate(@NonNull CachePath path) {
+        return copy(total.get(path));
+    }
+
+    public synchronized String dump() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.US, "session #%d (%ds)\n",
+                sessionNumber, (SystemClock.elapsedRealtime() - sessionStartedAt) / 1000));
+        for (CachePath path : CachePath.values()) {
+            sb.append(path.name()).append("\tsession\t").append(getSessionCounters(path)).append('\n');
+            for (Map.Entry<String, Counters> entry : copy(session.get(path)).entrySet())
+                sb.append(path.name()).append("\tsession\t").append(entry.getKey()).append('\t').append(entry.getValue()).append('\n');
+            for (Map.Entry<String, Counters> entry : copy(total.get(path)).entrySet())
+                sb.append(path.name()).append("\ttotal\t").append(entry.getKey()).append('\t').append(entry.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+    // endregion
+
+    private synchronized void record(CachePath path, @Nullable String certId, Event event) {
+        String key = certId == null ? "" : certId;
+        increment(session.computeIfAbsent(path, ignored -> new LinkedHashMap<>())
+                .computeIfAbsent(key, ignored -> new Counters()), event);
+        increment(total.computeIfAbsent(path, ignored -> new LinkedHashMap<>())
+                .computeIfAbsent(key, ignored -> new Counters()), event);
+    }
+
+    private static void increment(Counters counters, Event event) {
+        synchronized (counters) {
+            switch (event) {
+                case hit: counters.hits++; break;
+                case miss: counters.misses++; break;
+                case fallback: counters.fallbacks++; break;
+            }
+        }
+    }
+
+    private static Counters sum(@Nullable Map<String, Counters> byCertificate) {
+        Counters sum = new Counters();
+        if (byCertificate != null) {
+            for (Counters counters : byCertificate.values())
+                sum.add(counters);
+        }
+        return sum;
+    }
+
+    private static Map<String, Counters> copy(@Nullable Map<String, Counters> byCertificate) {
+        if (byCertificate == null)
+            return Collections.emptyMap();
+
+        Map<String, Counters> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, Counters> entry : byCertificate.entrySet())
+            copy.put(entry.getKey(), entry.getValue().copy());
+        return Collections.unmodifiableMap(copy);
+    }
+
+    public static CacheMetrics getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final CacheMetrics INSTANCE = new CacheMetrics();
+        private Singleton() {}
+    }
+}
@@ -0,0 +1,61 @@
+package com.signkorea.cloud.sample.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.signkorea.cloud.KSCertificateExt;
+import com.signkorea.cloud.sample.enums.CertificateSource;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+// 로컬/클라우드 통합 목록 항목 (같은 인증서는 지문 기준으로 하나의 항목으로 병합)
+public class CatalogEntry {
+    @NonNull private final String fingerprint;
+    @NonNull private final CertificateMetadata metadata;
+    @NonNull private final Set<CertificateSource> sources;
+    @Nullable private final KSCertificateExt localCertificate;
+    @Nullable private final KSCertificateExt cloudCertificate;
+
+    CatalogEntry(@NonNull String fingerprint,
+                 @Nullable KSCertificateExt localCertificate,
+                 @Nullable KSCertificateExt cloudCertificate) {
+        this.fingerprint = fingerprint;
+        this.localCertificate = localCertificate;
+        this.cloudCertificate = cloudCertificate;
+
+        EnumSet<CertificateSource> sources = EnumSet.noneOf(CertificateSource.class);
+        CertificateMetadata metadata = null;
+        if (cloudCertificate != null) {
+            metadata = CertificateMetadata.of(cloudCertificate);
+            sources.addAll(CertificateSource.of(metadata));
+        }
+        if (localCertificate != null) {
+            if (metadata == null)
+                metadata = CertificateMetadata.of(localCertificate);
+            sources.add(CertificateSource.local);
+        }
+
+        //noinspection ConstantConditions
+        this.metadata = metadata;
+        this.sources = Collections.unmodifiableSet(sources);
+    }
+
+    // region Getters
+    @NonNull public String getFingerprint() { return fingerprint; }
+    @NonNull public CertificateMetadata getMetadata() { return metadata; }
+    @NonNull public Set<CertificateSource> getSources() { return sources; }
+    @Nullable public KSCertificateExt getLocalCertificate() { return localCertificate; }
+    @Nullable public KSCertificateExt getCloudCertificate() { return cloudCertificate; }
+    // endregion
+
+    public boolean has(@NonNull CertificateSource source) {
+        return sources.contains(source);
+    }
+
+    @NonNull
+    public String getSourceLabel() {
+        return CertificateSource.describe(sources);
+    }
+}
@@ -0,0 +1,148 @@
+package com.signkorea.cloud.sample.models;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.signkorea.cloud.KSCertificateExt;
+import com.signkorea.cloud.sample.enums.DataSource;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+// 로컬/클라우드 인증서 통합 목록
+// 두 저장소를 동시에 조회하고 먼저 도착한 결과부터 병합하여 전달 (전체 소요 시간은 느린 쪽 기준)
+// 같은 인증서는 인증서 지문(SHA-256)으로 구분하여 하나의 항목으로 병합
+public class CertificateCatalog {
+    private static final String TAG = CertificateCatalog.class.getSimpleName();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final LocalRepository localRepo = LocalRepository.getInstance();
+    private final CloudRepository cloudRepo = CloudRepository.getInstance();
+
+    // onUpdate: 각 저장소의 조회 결과가 도착할 때마다 그때까지의 병합 목록 전달
+    // onSourceError: 저장소 조회 실패 시 호출 (실패한 저장소는 제외하고 다른 저장소 결과로 계속 진행)
+    // 반환된 future는 두 저장소 조회가 모두 끝나면 완료 (두 저장소 모두 실패한 경우에만 실패)
+    public RepositoryFuture<List<CatalogEntry>> load(@Nullable Consumer<List<CatalogEntry>> onUpdate,
+                                                     @Nullable BiConsumer<DataSource, Exception> onSourceError) {
+        AtomicReference<List<KSCertificateExt>> locals = new AtomicReference<>();
+        AtomicReference<List<KSCertificateExt>> clouds = new AtomicReference<>();
+        AtomicReference<Exception> localError = new AtomicReference<>();
+        AtomicReference<Exception> cloudError = new AtomicReference<>();
+
+        Runnable publish = () -> {
+            if (onUpdate != null)
+                onUpdate.accept(merge(locals.get(), clouds.get()));
+        };
+
+        RepositoryFuture<Void> local = settle(localRepo.loadCertificatesAsync(), DataSource.local,
+                locals, localError, publish, onSourceError);
+        RepositoryFuture<Void> cloud = settle(cloudRepo.loadCertificatesAsync(), DataSource.remote,
+                clouds, cloudError, publish, onSourceError);
+
+        return RepositoryFuture.allOf(Arrays.asList(local, cloud))
+                .thenCompose(ignored -> localError.get() != null && cloudError.get() != null
+                        ? RepositoryFuture.failed(localError.get())
+                        : RepositoryFuture.completed(merge(locals.get(), clouds.get())));
+    }
+
+    // 저장소 하나의 조회가 끝나면 완료 (조회에 실패해도 오류를 기록하고 완료하므로 다른 저장소 조회는 계속 진행)
+    private RepositoryFuture<Void> settle(RepositoryFuture<List<KSCertificateExt>> load,
+                                          DataSource source,
+                                          AtomicReference<List<KSCertificateExt>> certificates,
+                                          AtomicReference<Exception> error,
+                                          Runnable publish,
+                                          @Nullable BiConsumer<DataSource, Exception> onSourceError) {
+        RepositoryFuture<Void> settled = new RepositoryFuture<>();
+        settled.onCancel(load::cancel);
+        load.whenComplete(certs -> {
+            certificates.set(certs);
+            publish.run();
+            settled.complete(null);
+        }, e -> {
+            if (settled.isDone())     // 통합 목록 조회가 취소된 경우
+                return;
+
+            Log.w(TAG, source.name() + " 인증서 목록 조회 실패", e);
+            error.set(e);
+            if (onSourceError != null)
+                onSourceError.accept(source, e);
+            settled.complete(null);
+        });
+        return settled;
+    }
+
+    @NonNull
+    static List<CatalogEntry> merge(@Nullable List<KSCertificateExt> locals, @Nullable List<KSCertificateExt> clouds) {
+        Map<String, KSCertificateExt[]> merged = new LinkedHashMap<>();
+        // 인증서 데이터가 없어 지문을 계산할 수 없는 경우 Subject DN/일련번호로 같은 인증서를 찾음
+        Map<String, String> byDn = new HashMap<>();
+
+        if (locals != null) {
+            for (KSCertificateExt cert : locals)
+                put(merged, byDn, cert, 0);
+        }
+        if (clouds != null) {
+            for (KSCertificateExt cert : clouds)
+                put(merged, byDn, cert, 1);
+        }
+
+        List<CatalogEntry> entries = new ArrayList<>(merged.size());
+        merged.forEach((fingerprint, pair) -> entries.add(new CatalogEntry(fingerprint, pair[0], pair[1])));
+        return entries;
+    }
+
+    private static void put(Map<String, KSCertificateExt[]> merged,
+                            Map<String, String> byDn,
+                            KSCertificateExt cert,
+                            int slot) {
+        String dnKey = cert.getSubject() + "#" + cert.getSerialInt();
+        String fingerprint = fingerprint(cert);
+        if (fingerprint == null)
+            fingerprint = byDn.getOrDefault(dnKey, "dn:" + dnKey);
+        byDn.putIfAbsent(dnKey, fingerprint);
+
+        KSCertificateExt[] pair = merged.computeIfAbsent(fingerprint, key -> new KSCertificateExt[2]);
+        if (pair[slot] == null)
+            pair[slot] = cert;
+    }
+
+    // 인증서(DER) SHA-256 지문, 인증서 데이터가 없으면 null
+    @Nullable
+    public static String fingerprint(@NonNull KSCertificateExt cert) {
+        byte[] der = cert.getCertificate();
+        if (der == null || der.length == 0)
+            return null;
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(der);
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xf];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xf];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static CertificateCatalog getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final CertificateCatalog INSTANCE = new CertificateCatalog();
+        private Singleton() {}
+    }
+}
@@ -0,0 +1,147 @@
+package com.signkorea.cloud.sample.models;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.ListUpdateCallback;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// 이전 인증서 목록 대비 변경 내역 (인증서 ID 기준, ID가 없는 경우 Subject DN + Serial 기준)
+// 삭제 -> 추가/이동 -> 변경 순으로 적용하면 이전 목록이 현재 목록과 같아짐
+public class CertificateDelta {
+    private static final int INSERT = 0;
+    private static final int MOVE = 1;
+
+    private final List<CertificateMetadata> previous;
+    private final List<CertificateMetadata> current;
+
+    private final List<Integer> removed = new ArrayList<>();     // 이전 목록 기준 위치 (내림차순)
+    private final List<Integer> inserted = new ArrayList<>();    // 현재 목록 기준 위치
+    private final List<int[]> moved = new ArrayList<>();         // {from, to} 적용 순서
+    private final List<Integer> changed = new ArrayList<>();     // 현재 목록 기준 위치
+    private final List<int[]> structuralOps = new ArrayList<>(); // {INSERT|MOVE, from, to} 적용 순서
+
+    private CertificateDelta(@NonNull List<CertificateMetadata> previous,
+                             @NonNull List<CertificateMetadata> current) {
+        this.previous = previous;
+        this.current = current;
+
+        List<String> previousKeys = keysOf(previous);
+        List<String> currentKeys = keysOf(current);
+
+        Map<String, Integer> previousPositions = positionsOf(previousKeys);
+        Map<String, Integer> currentPositions = positionsOf(currentKeys);
+
+        // 현재 목록에 없는 항목 삭제 (뒤에서부터 삭제해야 앞쪽 위치가 유지됨)
+        List<String> working = new ArrayList<>(previousKeys.size());
+        for (int i = previousKeys.size() - 1; i >= 0; i--) {
+            if (!currentPositions.containsKey(previousKeys.get(i)))
+                removed.add(i);
+        }
+        for (String key : previousKeys) {
+            if (currentPositions.containsKey(key))
+                working.add(key);
+        }
+
+        // 현재 목록 순서대로 추가/이동
+        for (int i = 0; i < currentKeys.size(); i++) {
+            String key = currentKeys.get(i);
+            Integer from = previousPositions.get(key);
+
+            if (from == null) {
+                working.add(i, key);
+                inserted.add(i);
+                structuralOps.add(new int[] {INSERT, i, i});
+                continue;
+            }
+
+            if (!key.equals(working.get(i))) {
+                int position = working.indexOf(key);
+                working.remove(position);
+                working.add(i, key);
+                moved.add(new int[] {position, i});
+                structuralOps.add(new int[] {MOVE, position, i});
+            }
+
+            if (!sameContents(previous.get(from), current.get(i)))
+                changed.add(i);
+        }
+    }
+
+    @NonNull
+    public static CertificateDelta between(@NonNull List<CertificateMetadata> previous,
+                                           @NonNull List<CertificateMetadata> current) {
+        return new CertificateDelta(previous, current);
+    }
+
+    public boolean isEmpty() {
+        return removed.isEmpty() && structuralOps.isEmpty() && changed.isEmpty();
+    }
+
+    public void dispatchUpdatesTo(@NonNull ListUpdateCallback callback) {
+        for (int position : removed)
+            callback.onRemoved(position, 1);
+
+        for (int[] op : structuralOps) {
+            if (op[0] == INSERT)
+                callback.onInserted(op[2], 1);
+            else
+                callback.onMoved(op[1], op[2]);
+        }
+
+        for (int position : changed)
+            callback.onChanged(position, 1, null);
+    }
+
+    public void dispatchUpdatesTo(@NonNull RecyclerView.Adapter<?> adapter) {
+        dispatchUpdatesTo(new AdapterListUpdateCallback(adapter));
+    }
+
+    private static List<String> keysOf(List<CertificateMetadata> certificates) {
+        List<String> keys = new ArrayList<>(certificates.size());
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (CertificateMetadata cert : certificates) {
+            String key = cert.getId() != null
+                    ? "id:" + cert.getId()
+                    : "dn:" + cert.getSubject() + "#" + cert.getSerial();
+
+            // 동일 key가 중복되는 경우 순번으로 구분
+            int count = occurrences.merge(key, 1, Integer::sum);
+            keys.add(count == 1 ? key : key + "#" + count);
+        }
+        return keys;
+    }
+
+    private static Map<String, Integer> positionsOf(List<String> keys) {
+        Map<String, Integer> positions = new HashMap<>(keys.size() * 2);
+        for (int i = 0; i < keys.size(); i++)
+            positions.put(keys.get(i), i);
+        return positions;
+    }
+
+    private static boolean sameContents(CertificateMetadata a, CertificateMetadata b) {
+        return Objects.equals(a.getSubject(), b.getSubject())
+                && Objects.equals(a.getNotAfter(), b.getNotAfter())
+                && Objects.equals(a.getSerial(), b.getSerial())
+                && a.isCloud() == b.isCloud()
+                && a.isCache() == b.isCache()
+                && a.isBio() == b.isBio()
+                && a.isLock() == b.isLock()
+                && Objects.equals(a.getId(), b.getId());
+    }
+
+    // region Getters
+    @NonNull public List<CertificateMetadata> getPrevious() { return previous; }
+    @NonNull public List<CertificateMetadata> getCurrent() { return current; }
+    @NonNull public List<Integer> getRemoved() { return Collections.unmodifiableList(removed); }
+    @NonNull public List<Integer> getInserted() { return Collections.unmodifiableList(inserted); }
+    @NonNull public List<int[]> getMoved() { return Collections.unmodifiableList(moved); }
+    @NonNull public List<Integer> getChanged() { return Collections.unmodifiableList(changed); }
+    // endregion
+}
@@ -0,0 +1,58 @@
+package com.signkorea.cloud.sample.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.signkorea.cloud.KSCertificateExt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 인증서 목록의 ID / Subject DN 인덱스 및 잠긴 인증서 목록
+// 목록이 바뀔 때마다 새로 생성하여 교체하므로 생성 이후에는 변경되지 않음
+public class CertificateIndex {
+    public static final CertificateIndex EMPTY = new CertificateIndex(Collections.emptyList());
+
+    private final Map<String, KSCertificateExt> byId;
+    private final Map<String, KSCertificateExt> bySubjectDn;
+    private final List<KSCertificateExt> locked;
+
+    private CertificateIndex(@NonNull List<KSCertificateExt> certificates) {
+        byId = new HashMap<>(certificates.size() * 2);
+        bySubjectDn = new HashMap<>(certificates.size() * 2);
+        List<KSCertificateExt> locked = new ArrayList<>();
+
+        for (KSCertificateExt cert : certificates) {
+            if (cert.getId() != null)
+                byId.putIfAbsent(cert.getId(), cert);
+            if (cert.getSubject() != null)
+                bySubjectDn.putIfAbsent(cert.getSubject(), cert);     // 동일 DN이 여러 개인 경우 목록상 첫 번째 인증서
+            if (cert.isLock())
+                locked.add(cert);
+        }
+
+        this.locked = Collections.unmodifiableList(locked);
+    }
+
+    public static CertificateIndex of(@Nullable List<KSCertificateExt> certificates) {
+        return certificates == null || certificates.isEmpty() ? EMPTY : new CertificateIndex(certificates);
+    }
+
+    @Nullable
+    public KSCertificateExt findById(@Nullable String id) {
+        return id == null ? null : byId.get(id);
+    }
+
+    @Nullable
+    public KSCertificateExt findBySubjectDn(@Nullable String subjectDn) {
+        return subjectDn == null ? null : bySubjectDn.get(subjectDn);
+    }
+
+    @NonNull
+    public List<KSCertificateExt> getLockedCertificates() {
+        return locked;
+    }
+}
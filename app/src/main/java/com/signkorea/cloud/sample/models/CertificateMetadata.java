@@ -0,0 +1,61 @@
+package com.signkorea.cloud.sample.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.signkorea.cloud.KSCertificateExt;
+
+import java.util.Date;
+
+// 목록 화면 표시에 필요한 인증서 메타데이터 (키 정보는 포함하지 않음)
+// SDK가 값을 주지 않은 항목(DN, 만료일, 일련번호)은 null
+public class CertificateMetadata {
+    @Nullable private final String id;
+    @Nullable private final String subject;
+    @Nullable private final Date notAfter;
+    @Nullable private final String serial;
+    private final boolean cloud;
+    private final boolean cache;
+    private final boolean bio;
+    private final boolean lock;
+
+    public CertificateMetadata(@Nullable String id,
+                               @Nullable String subject,
+                               @Nullable Date notAfter,
+                               @Nullable String serial,
+                               boolean cloud,
+                               boolean cache,
+                               boolean bio,
+                               boolean lock) {
+        this.id = id;
+        this.subject = subject;
+        this.notAfter = notAfter;
+        this.serial = serial;
+        this.cloud = cloud;
+        this.cache = cache;
+        this.bio = bio;
+        this.lock = lock;
+    }
+
+    public static CertificateMetadata of(@NonNull KSCertificateExt cert) {
+        return new CertificateMetadata(cert.getId(),
+                cert.getSubject(),
+                cert.getNotAfter(),
+                cert.getSerialInt(),
+                cert.isCloud(),
+                cert.isCache(),
+                cert.isBio(),
+                cert.isLock());
+    }
+
+    // region Getters
+    @Nullable public String getId() { return id; }
+    @Nullable public String getSubject() { return subject; }
+    @Nullable public Date getNotAfter() { return notAfter; }
+    @Nullable public String getSerial() { return serial; }
+    public boolean isCloud() { return cloud; }
+    public boolean isCache() { return cache; }
+    public boolean isBio() { return bio; }
+    public boolean isLock() { return lock; }
+    // endregion
+}
@@ -0,0 +1,186 @@
+package com.signkorea.cloud.sample.models;
+
+import android.content.Context;
+import android.util.AtomicFile;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.signkorea.cloud.KSCertificateExt;
+import com.signkorea.cloud.sample.utils.AppExecutors;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 콜드 스타트 시 목록 화면을 즉시 그리기 위한 인증서 메타데이터 스냅샷 (파일 저장)
+// 인증서 키(getKey/getKmKey) 등 민감 정보는 저장하지 않음
+public class CertificateSnapshotStore {
+    private static final String TAG = CertificateSnapshotStore.class.getSimpleName();
+    private static final int VERSION = 2;
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private static final int FLAG_CLOUD = 1;
+    private static final int FLAG_CACHE = 1 << 1;
+    private static final int FLAG_BIO = 1 << 2;
+    private static final int FLAG_LOCK = 1 << 3;
+
+    private final AtomicFile file;
+    private volatile List<CertificateMetadata> snapshot;
+
+    public CertificateSnapshotStore(Context context, String name) {
+        file = new AtomicFile(new File(context.getApplicationContext().getFilesDir(), name));
+    }
+
+    // 처음 호출 시 파일을 읽으므로 메인 스레드에서는 preload() 이후 또는 loadAsync()로 사용
+    // 파일은 잠금 밖에서 읽음 (읽는 동안 save/clear/peek가 대기하지 않도록)
+    @NonNull
+    public List<CertificateMetadata> load() {
+        List<CertificateMetadata> current = snapshot;
+        if (current != null)
+            return current;
+
+        List<CertificateMetadata> loaded = read();
+        synchronized (this) {
+            if (snapshot == null)       // 읽는 사이 저장된 목록이 있으면 그 목록을 사용
+                snapshot = loaded;
+            return snapshot;
+        }
+    }
+
+    // 이미 읽었거나 저장한 스냅샷 (파일을 읽지 않으므로 메인 스레드에서 사용 가능), 아직 읽지 않았으면 null
+    @Nullable
+    public List<CertificateMetadata> peek() {
+        return snapshot;
+    }
+
+    // diskIO에서 스냅샷 파일을 미리 읽어 둠
+    public void preload() {
+        AppExecutors.getInstance().diskIO().execute(this::load);
+    }
+
+    // 이미 읽은 스냅샷은 바로 전달하고, 아니면 diskIO에서 읽은 후 메인 스레드로 전달
+    public RepositoryFuture<List<CertificateMetadata>> loadAsync() {
+        List<CertificateMetadata> current = snapshot;
+        if (current != null)
+            return RepositoryFuture.completed(current);
+
+        RepositoryFuture<List<CertificateMetadata>> future = new RepositoryFuture<>();
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            List<CertificateMetadata> loaded = load();
+            AppExecutors.getInstance().mainThread().execute(() -> future.complete(loaded));
+        });
+        return future;
+    }
+
+    // 저장한 메타데이터 목록 반환
+    @NonNull
+    public List<CertificateMetadata> save(@Nullable List<KSCertificateExt> certificates) {
+        if (certificates == null)
+            return clear();
+
+        List<CertificateMetadata> metadata = Collections.unmodifiableList(certificates.stream()
+                .map(CertificateMetadata::of)
+                .collect(Collectors.toList()));
+
+        synchronized (this) {
+            snapshot = metadata;
+        }
+
+        AppExecutors.getInstance().diskIO().execute(() -> write(metadata));
+        return metadata;
+    }
+
+    @NonNull
+    public List<CertificateMetadata> clear() {
+        List<CertificateMetadata> empty = Collections.emptyList();
+        synchronized (this) {
+            snapshot = empty;
+        }
+
+        AppExecutors.getInstance().diskIO().execute(file::delete);
+        return empty;
+    }
+
+    @NonNull
+    private List<CertificateMetadata> read() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.openRead()))) {
+            if (in.readInt() != VERSION) {
+                // 이전 버전 스냅샷은 사용하지 않음 (다음 로딩 시 새로 저장)
+                return Collections.emptyList();
+            }
+
+            int count = in.readInt();
+            List<CertificateMetadata> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = readString(in);
+                String subject = readString(in);
+                long notAfter = in.readLong();
+                String serial = readString(in);
+                int flags = in.readByte();
+
+                result.add(new CertificateMetadata(id, subject, notAfter == NO_DATE ? null : new Date(notAfter), serial,
+                        (flags & FLAG_CLOUD) != 0,
+                        (flags & FLAG_CACHE) != 0,
+                        (flags & FLAG_BIO) != 0,
+                        (flags & FLAG_LOCK) != 0));
+            }
+
+            return Collections.unmodifiableList(result);
+        } catch (FileNotFoundException e) {
+            return Collections.emptyList();
+        } catch (IOException e) {
+            Log.w(TAG, "인증서 스냅샷 읽기 실패", e);
+            return Collections.emptyList();
+        }
+    }
+
+    private void write(List<CertificateMetadata> metadata) {
+        FileOutputStream fos = null;
+        try {
+            fos = file.startWrite();
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos));
+            out.writeInt(VERSION);
+            out.writeInt(metadata.size());
+            for (CertificateMetadata cert : metadata) {
+                writeString(out, cert.getId());
+                writeString(out, cert.getSubject());
+                out.writeLong(cert.getNotAfter() != null ? cert.getNotAfter().getTime() : NO_DATE);
+                writeString(out, cert.getSerial());
+                out.writeByte((cert.isCloud() ? FLAG_CLOUD : 0)
+                        | (cert.isCache() ? FLAG_CACHE : 0)
+                        | (cert.isBio() ? FLAG_BIO : 0)
+                        | (cert.isLock() ? FLAG_LOCK : 0));
+            }
+            out.flush();
+            file.finishWrite(fos);
+        } catch (IOException | RuntimeException e) {
+            // 저장에 실패해도 이전 스냅샷 파일은 유지 (diskIO 스레드가 중단되지 않도록 런타임 예외도 처리)
+            Log.w(TAG, "인증서 스냅샷 저장 실패", e);
+            if (fos != null)
+                file.failWrite(fos);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null)
+            out.writeUTF(value);
+    }
+
+    @Nullable
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -1,44 +1,108 @@
 package com.signkorea.cloud.sample.models;
 
+import android.os.SystemClock;
+import android.util.Log;
+import android.util.Pair;
+
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.signkorea.cloud.KSCertificateExt;
+import com.signkorea.cloud.sample.enums.CachePath;
+import com.signkorea.cloud.sample.enums.CertificateOperation;
+import com.signkorea.cloud.sample.utils.AppExecutors;
+import com.signkorea.cloud.sample.utils.DocumentDigest;
 import com.signkorea.cloud.sample.utils.SimpleSharedPreferences;
 import com.signkorea.securedata.ProtectedData;
 import com.yettiesoft.cloud.models.AutoConnectDevice;
 import com.yettiesoft.cloud.models.ExportedCertificate;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class CloudRepository extends Repository {
+    // 캐시된 인증서 목록을 재조회 없이 그대로 사용하는 기본 유효 시간 (ms)
+    public static final long DEFAULT_FRESHNESS_WINDOW = 30 * 1000;
+    private static final long NOT_LOADED = -1;
+    private static final String LOAD_CERTIFICATES = "loadCertificates";
+    private static final String GET_AUTO_CONNECT_DEVICES = "getAutoConnectDevices";
+    // 일괄 삭제 시 동시에 진행하는 기본 삭제 요청 수
+    public static final int DEFAULT_DELETE_CONCURRENCY = 4;
+    // 일괄 서명 시 동시에 진행하는 기본 서명 요청 수
+    public static final int DEFAULT_SIGN_CONCURRENCY = 4;
+
     private KSCertificateExt selectedCert;
 
+    private long freshnessWindow = DEFAULT_FRESHNESS_WINDOW;
+    private long loadedAt = NOT_LOADED;     // 인증서 목록 로딩 시각 (SystemClock.elapsedRealtime)
+
+    // 캐시된 목록이 있으면 즉시 반환하고, 유효 시간이 지난 경우 백그라운드에서 재조회 후 observer에 통지
     @Override
-    public void loadCertificates(Runnable onComplete, Consumer<Exception> onError) {
-        certMgr.getUserCertificateListCloud(certs -> {
-            this.certificates = certs;
-
-            // 이전에 사용했던 인증서 SubjectDn가 로딩한 인증서 목록에서 존재하는지 확인
-            String selectedSubjectDn = SimpleSharedPreferences.getInstance(context).getCertDn();
-            selectedCert = this.certificates.stream()
-                    .filter(cert -> cert.getSubject().equals(selectedSubjectDn))
-                    .findFirst()
-                    .orElse(null);
-
-            if (selectedCert == null)
-                // 이전에 사용한 인증서가 없는 경우 선택 인증서 정보 초기화
-                SimpleSharedPreferences.getInstance(context).edit().certDn("");
-
-            onComplete.run();
-        }, e -> {
-            onError.accept(e);
-        });
+    public RepositoryFuture<List<KSCertificateExt>> loadCertificatesAsync() {
+        if (certificates == null || loadedAt == NOT_LOADED)
+            return refreshCertificatesAsync();
+
+        RepositoryFuture<List<KSCertificateExt>> cached = RepositoryFuture.completed(certificates);
+
+        if (!isFresh()) {
+            // 변경 내역은 setCertificates()에서 observer로 통지
+            refreshCertificatesAsync().whenComplete(ignored -> {},
+                    e -> Log.w(TAG, "인증서 목록 재조회 실패", e));
+        }
+
+        return cached;
+    }
+
+    // 캐시 여부와 관계없이 클라우드에서 인증서 목록을 조회
+    public RepositoryFuture<List<KSCertificateExt>> refreshCertificatesAsync() {
+        return whenReady(() ->
+                singleFlight(LOAD_CERTIFICATES, OperationMetrics.getInstance().measureCall(CertificateOperation.get, (done, fail) ->
+                        certMgr.getUserCertificateListCloud(certs -> {
+                            setCertificates(certs);
+                            this.loadedAt = SystemClock.elapsedRealtime();
+
+                            // 이전에 사용했던 인증서 SubjectDn가 로딩한 인증서 목록에서 존재하는지 확인
+                            String selectedSubjectDn = SimpleSharedPreferences.getInstance(context).getCertDn();
+                            selectedCert = findBySubjectDn(selectedSubjectDn);
+
+                            if (selectedCert == null)
+                                // 이전에 사용한 인증서가 없는 경우 선택 인증서 정보 초기화
+                                SimpleSharedPreferences.getInstance(context).edit().certDn("");
+
+                            done.accept(certs);
+                        }, fail::accept))));
+    }
+
+    public void refreshCertificates(Runnable onComplete, Consumer<Exception> onError) {
+        refreshCertificatesAsync().whenComplete(ignored -> onComplete.run(), onError);
+    }
+
+    // 다음 loadCertificates() 호출 시 캐시를 사용하지 않고 재조회
+    public void invalidateCertificates() {
+        loadedAt = NOT_LOADED;
+    }
+
+    @Override
+    protected String getSnapshotName() {
+        return "cloud_certificates.snapshot";
+    }
+
+    public void setFreshnessWindow(long millis) {
+        this.freshnessWindow = millis;
+    }
+
+    private boolean isFresh() {
+        return loadedAt != NOT_LOADED && SystemClock.elapsedRealtime() - loadedAt < freshnessWindow;
     }
 
     public void selectCert(int index) {
@@ -46,20 +110,189 @@ public class CloudRepository extends Repository {
         SimpleSharedPreferences.getInstance(context).edit().certDn(selectedCert.getSubject()).commit();
     }
 
+    // 내려받은 인증서와 캐시 사용 여부
+    public RepositoryFuture<Pair<ExportedCertificate, Boolean>> exportCertificateAsync(
+            String id,
+            @NonNull ProtectedData pin,
+            @NonNull ProtectedData secret) {
+        return whenReady(CertificateOperation.export, () -> {
+            RepositoryFuture<Pair<ExportedCertificate, Boolean>> future = new RepositoryFuture<>();
+            certMgr.exportCertificate(id,
+                    pin,
+                    secret,
+                    (certificates, fromCache) -> {
+                        // 캐시에 없으면 SDK가 서버에서 내려받음
+                        if (fromCache) {
+                            CacheMetrics.getInstance().recordHit(CachePath.exportCertificate, id);
+                        } else {
+                            CacheMetrics.getInstance().recordMiss(CachePath.exportCertificate, id);
+                            CacheMetrics.getInstance().recordFallback(CachePath.exportCertificate, id);
+                        }
+                        future.complete(new Pair<>(certificates[0], fromCache));
+                    }, e -> {
+                        future.fail(e);
+                    });
+            return future;
+        });
+    }
+
     public void exportCertificate(
             String id,
             @NonNull ProtectedData pin,
             @NonNull ProtectedData secret,
             @NonNull BiConsumer<ExportedCertificate, Boolean> completion,
             @NonNull Consumer<Exception> onError) {
-        certMgr.exportCertificate(id,
-                pin,
-                secret,
-                (certificates, fromCache) -> {
-                    completion.accept(certificates[0], fromCache);
-                }, e -> {
-                    onError.accept(e);
-                });
+        exportCertificateAsync(id, pin, secret)
+                .whenComplete(result -> completion.accept(result.first, result.second), onError);
+    }
+
+    // 로그인 세션 캐시로 축약서명 생성 (블로킹)
+    // 캐시에 인증서가 없으면 NotCachedCertificateException 또는 KSException.FAILED_CLOUD_NO_CACHED_CERTIFICATE
+    public byte[] koscomBriefSignCache(String id, @NonNull byte[] plain, @NonNull ProtectedData pin) throws Exception {
+        try {
+            byte[] signature = certMgr.koscomBriefSignCache(id, plain, pin);
+            CacheMetrics.getInstance().recordHit(CachePath.koscomBriefSign, id);
+            return signature;
+        } catch (Exception e) {
+            if (CacheMetrics.isCacheMiss(e))
+                CacheMetrics.getInstance().recordMiss(CachePath.koscomBriefSign, id);
+            throw e;
+        }
+    }
+
+    // 서버 CMS 서명 요청 (초기화 완료 후 호출, 결과는 SDK 콜백 스레드에서 전달)
+    // 메인 스레드를 거치지 않고 결과를 기다려야 하는 전용 스레드용 (주문 서명 등)
+    public void requestKoscomCMSSign(String id,
+                                     @NonNull byte[] plain,
+                                     @NonNull ProtectedData pin,
+                                     @NonNull Consumer<byte[]> completion,
+                                     @NonNull Consumer<Exception> onError) {
+        certMgr.koscomCMSSign(id, plain, pin, completion::accept, onError::accept);
+    }
+
+    public RepositoryFuture<byte[]> koscomCMSSignAsync(String id, @NonNull byte[] plain, @NonNull ProtectedData pin) {
+        return koscomCMSSignAsync(id, plain, pin, () -> {});
+    }
+
+    // onFinished: 취소 여부와 관계없이 서버 서명 응답을 받은 후 실행 (pin 해제용)
+    // 취소해도 진행 중인 서명 요청은 중단되지 않으므로 pin은 취소 시점이 아니라 여기서 해제
+    public RepositoryFuture<byte[]> koscomCMSSignAsync(String id,
+                                                       @NonNull byte[] plain,
+                                                       @NonNull ProtectedData pin,
+                                                       @NonNull Runnable onFinished) {
+        return whenReady(CertificateOperation.sign, onFinished, () -> {
+            RepositoryFuture<byte[]> future = new RepositoryFuture<>();
+            certMgr.koscomCMSSign(id, plain, pin, signature -> {
+                onFinished.run();
+                future.complete(signature);
+            }, e -> {
+                onFinished.run();
+                future.fail(e);
+            });
+            return future;
+        });
+    }
+
+    // 여러 원문을 한 번 입력받은 PIN으로 서명 (결과는 요청 순서대로, 항목별 오류 포함)
+    // pin은 일괄 서명이 끝난 후 호출자가 해제
+    public RepositoryFuture<BatchSignResult> koscomCMSSignBatchAsync(
+            String id,
+            @NonNull List<byte[]> plains,
+            @NonNull ProtectedData pin,
+            int concurrency,
+            @Nullable BiConsumer<Integer, BatchResult<Integer>> onProgress) {
+        return signBatch(plains, concurrency, plain -> koscomCMSSignAsync(id, plain, pin), onProgress);
+    }
+
+    public void koscomCMSSignBatch(
+            String id,
+            @NonNull List<byte[]> plains,
+            @NonNull ProtectedData pin,
+            @NonNull Consumer<BatchSignResult> completion,
+            @NonNull Consumer<Exception> onError) {
+        koscomCMSSignBatchAsync(id, plains, pin, DEFAULT_SIGN_CONCURRENCY, null).whenComplete(completion, onError);
+    }
+
+    // 해시 서명 (표준 detached CMS가 아님)
+    // 문서를 단말에서 일정 크기씩 읽어 해시(SHA-256)를 계산한 후 32바이트 해시값을 원문으로 하여 클라우드 CMS 서명 요청
+    // 서명값의 서명 원문(CMS content)은 문서가 아니라 해시값이므로, 검증 측은 문서의 SHA-256을 직접 계산해 서명 원문과 비교해야 함
+    // (클라우드 서명 API는 원문만 받으므로 messageDigest가 문서 해시인 detached SignedData를 만들 수 없음)
+    // 문서 크기와 관계없이 전송량이 일정함 (document는 호출자가 닫음)
+    public RepositoryFuture<byte[]> koscomCMSSignDocumentHashAsync(String id,
+                                                                   @NonNull InputStream document,
+                                                                   @NonNull ProtectedData pin) {
+        return whenReady(CertificateOperation.signDocumentHash, () ->
+                AppExecutors.getInstance().submit("digest", () -> DocumentDigest.digest(document))
+                        .thenCompose(digest -> koscomCMSSignAsync(id, digest, pin)));
+    }
+
+    public RepositoryFuture<byte[]> koscomCMSSignDocumentHashAsync(String id,
+                                                                   @NonNull File document,
+                                                                   @NonNull ProtectedData pin) {
+        return whenReady(CertificateOperation.signDocumentHash, () ->
+                AppExecutors.getInstance().submit("digest", () -> {
+                    try (FileInputStream in = new FileInputStream(document)) {
+                        return DocumentDigest.digest(in.getChannel());
+                    }
+                }).thenCompose(digest -> koscomCMSSignAsync(id, digest, pin)));
+    }
+
+    public void koscomCMSSignDocumentHash(String id,
+                                          @NonNull File document,
+                                          @NonNull ProtectedData pin,
+                                          @NonNull Consumer<byte[]> completion,
+                                          @NonNull Consumer<Exception> onError) {
+        koscomCMSSignDocumentHashAsync(id, document, pin).whenComplete(completion, onError);
+    }
+
+    // 축약서명 (캐시 우선, 캐시에 인증서가 없으면 같은 PIN으로 서버 서명)
+    // 서명값과 캐시 사용 여부 (서버 서명은 koscomCMSSign 결과)
+    public RepositoryFuture<Pair<byte[], Boolean>> koscomBriefSignAsync(
+            String id,
+            @NonNull byte[] plain,
+            @NonNull ProtectedData pin) {
+        // 캐시 서명은 블로킹 호출이므로 worker에서 실행 (초기화 대기 후 콜백은 메인 스레드에서 호출됨)
+        // 캐시에 인증서가 없으면 null
+        return whenReady(CertificateOperation.briefSign, () ->
+                AppExecutors.getInstance().submit("koscomBriefSignCache", () -> {
+                    try {
+                        return koscomBriefSignCache(id, plain, pin);
+                    } catch (Exception e) {
+                        if (CacheMetrics.isCacheMiss(e))
+                            return null;
+                        throw e;
+                    }
+                }).<Pair<byte[], Boolean>>thenCompose(cacheSignature -> {
+                    if (cacheSignature != null)
+                        return RepositoryFuture.completed(new Pair<>(cacheSignature, true));
+
+                    Log.i(TAG, "축약서명 캐시 없음, 서버 서명으로 대체");
+                    return koscomCMSSignAsync(id, plain, pin).thenApply(serverSignature -> {
+                        CacheMetrics.getInstance().recordFallback(CachePath.koscomBriefSign, id);
+                        return new Pair<>(serverSignature, false);
+                    });
+                }));
+    }
+
+    public void koscomBriefSign(
+            String id,
+            @NonNull byte[] plain,
+            @NonNull ProtectedData pin,
+            @NonNull BiConsumer<byte[], Boolean> completion,
+            @NonNull Consumer<Exception> onError) {
+        koscomBriefSignAsync(id, plain, pin)
+                .whenComplete(result -> completion.accept(result.first, result.second), onError);
+    }
+
+    public RepositoryFuture<Void> changeCertificatePinAsync(
+            String id,
+            @NonNull ProtectedData oldPin,
+            @NonNull ProtectedData newPin) {
+        return whenReady(CertificateOperation.changePin, () -> {
+            RepositoryFuture<Void> future = new RepositoryFuture<>();
+            certMgr.changePwd(id, oldPin, newPin, future.completer()::run, future::fail);
+            return future;
+        });
     }
 
     public void changeCertificatePin(
@@ -68,40 +301,156 @@ public class CloudRepository extends Repository {
             @NonNull ProtectedData newPin,
             @NonNull Runnable completion,
             @NonNull Consumer<Exception> onError) {
-        certMgr.changePwd(id, oldPin, newPin, completion::run, onError::accept);
+        changeCertificatePinAsync(id, oldPin, newPin).whenComplete(ignored -> completion.run(), onError);
+    }
+
+    public RepositoryFuture<Void> deleteCertificateAsync(String id) {
+        return requestDeleteCertificate(id).thenApply(ignored -> {
+            removeCertificates(Collections.singletonList(id));
+            return null;
+        });
+    }
+
+    // 여러 인증서를 최대 concurrency개씩 동시에 삭제하고 목록은 마지막에 한 번만 갱신
+    // 일부 삭제에 실패해도 나머지는 계속 진행하며 실패 내역은 BatchResult로 전달
+    public RepositoryFuture<BatchResult<String>> deleteCertificatesAsync(@NonNull List<String> ids, int concurrency) {
+        return RepositoryFuture.forEach(ids, concurrency, this::requestDeleteCertificate, null)
+                .thenApply(result -> {
+                    removeCertificates(result.getSucceeded());
+                    return result;
+                });
+    }
+
+    public void deleteCertificates(
+            @NonNull List<String> ids,
+            @NonNull Consumer<BatchResult<String>> completion,
+            @NonNull Consumer<Exception> onError) {
+        deleteCertificatesAsync(ids, DEFAULT_DELETE_CONCURRENCY).whenComplete(completion, onError);
+    }
+
+    private RepositoryFuture<Void> requestDeleteCertificate(String id) {
+        return whenReady(CertificateOperation.delete, () -> {
+            RepositoryFuture<Void> future = new RepositoryFuture<>();
+            certMgr.deleteCert(id, future.completer(), future::fail);
+            return future;
+        });
+    }
+
+    // 삭제된 인증서를 목록에서 제외
+    private void removeCertificates(List<String> ids) {
+        if (certificates == null || ids.isEmpty())
+            return;
+
+        Set<String> deleted = new HashSet<>(ids);
+        List<KSCertificateExt> remaining = certificates.stream()
+                .filter(cert -> !deleted.contains(cert.getId()))
+                .collect(Collectors.toList());
+        if (remaining.size() != certificates.size())
+            setCertificates(remaining);
     }
 
     public void deleteCertificate(
             String id,
             @NonNull Runnable completion,
             @NonNull Consumer<Exception> onError) {
-        certMgr.deleteCert(id,
-                () -> {
-                    certificates.removeIf(cert -> Objects.equals(cert.getId(), id));
-                    completion.run();
-                }, e -> onError.accept(e));
+        deleteCertificateAsync(id).whenComplete(ignored -> completion.run(), onError);
     }
 
-    public void issueCertificate(String refNum, String authCode, Consumer<Hashtable<String, Object>> completion) {
-        certMgr.issue(refNum, authCode, 256, true, completion);
+    public RepositoryFuture<Hashtable<String, Object>> issueCertificateAsync(String refNum, String authCode) {
+        return whenReady(CertificateOperation.issue, () -> {
+            RepositoryFuture<Hashtable<String, Object>> future = new RepositoryFuture<>();
+            certMgr.issue(refNum, authCode, 256, true, future::complete);
+            return future;
+        });
     }
 
-    public boolean saveCertificateLocal(ProtectedData pwd) {
-        return certMgr.saveCertLocal(pwd);
+    public void issueCertificate(String refNum,
+                                 String authCode,
+                                 @NonNull Consumer<Hashtable<String, Object>> completion,
+                                 @NonNull Consumer<Exception> onError) {
+        issueCertificateAsync(refNum, authCode).whenComplete(completion, onError);
+    }
+
+    public RepositoryFuture<byte[]> getRandomAsync(String id, @NonNull ProtectedData pin) {
+        return getRandomAsync(id, pin, () -> {});
+    }
+
+    // onFinished: 취소 여부와 관계없이 응답을 받은 후 실행 (pin 해제용)
+    public RepositoryFuture<byte[]> getRandomAsync(String id, @NonNull ProtectedData pin, @NonNull Runnable onFinished) {
+        return whenReady(CertificateOperation.sign, onFinished, () -> {
+            RepositoryFuture<byte[]> future = new RepositoryFuture<>();
+            certMgr.getRandom(id, pin, random -> {
+                onFinished.run();
+                future.complete(random);
+            }, e -> {
+                onFinished.run();
+                future.fail(e);
+            });
+            return future;
+        });
+    }
+
+    public void getRandom(String id,
+                          @NonNull ProtectedData pin,
+                          @NonNull Consumer<byte[]> completion,
+                          @NonNull Consumer<Exception> onError) {
+        getRandomAsync(id, pin).whenComplete(completion, onError);
+    }
+
+    public RepositoryFuture<Boolean> saveCertificateLocalAsync(ProtectedData pwd) {
+        return whenReady(CertificateOperation.export, () ->
+                AppExecutors.getInstance().submit("saveCertLocal", () -> certMgr.saveCertLocal(pwd)));
+    }
+
+    public void saveCertificateLocal(ProtectedData pwd, Consumer<Boolean> completion, Consumer<Exception> onError) {
+        saveCertificateLocalAsync(pwd).whenComplete(completion, onError);
+    }
+
+    public RepositoryFuture<Void> saveCertificateCloudAsync(ProtectedData pin) {
+        return whenReady(CertificateOperation.register, () -> {
+            RepositoryFuture<Void> future = new RepositoryFuture<>();
+            certMgr.saveCloud(pin, () -> {
+                invalidateCertificates();
+                future.complete(null);
+            }, future::fail);
+            return future;
+        });
     }
 
     public void saveCertificateCloud(ProtectedData pin, Runnable completion, Consumer<Exception> onError) {
-        certMgr.saveCloud(pin, completion, onError);
+        saveCertificateCloudAsync(pin).whenComplete(ignored -> completion.run(), onError);
+    }
+
+    // updateCloud는 블로킹 호출이므로 worker에서 실행
+    public RepositoryFuture<Hashtable<String, Object>> updateCertificateCloudAsync(KSCertificateExt cert,
+                                                                                 @NonNull ProtectedData pin) {
+        return whenReady(CertificateOperation.updateCloud, () ->
+                AppExecutors.getInstance().<Hashtable<String, Object>>submitCallback("updateCloud",
+                        completion -> certMgr.updateCloud(cert.getId(),
+                                pin,
+                                256,
+                                true,       // 테스트서버: true, 가동서버: false
+                                completion))
+                        .thenApply(table -> {
+                            invalidateCertificates();
+                            return table;
+                        }));
     }
 
     public void updateCertificateCloud(KSCertificateExt cert,
                                        @NonNull ProtectedData pin,
-                                       @NonNull Consumer<Hashtable<String, Object>> completion) {
-        certMgr.updateCloud(cert.getId(),
-                pin,
-                256,
-                true,       // 테스트서버: true, 가동서버: false
-                completion);
+                                       @NonNull Consumer<Hashtable<String, Object>> completion,
+                                       @NonNull Consumer<Exception> onError) {
+        updateCertificateCloudAsync(cert, pin).whenComplete(completion, onError);
+    }
+
+    // 잠금 해제 후 인증서 목록 재조회
+    public RepositoryFuture<List<KSCertificateExt>> unlockCertificateAsync(KSCertificateExt cert) {
+        return whenReady(CertificateOperation.unlock, () -> {
+            RepositoryFuture<Void> future = new RepositoryFuture<>();
+            certMgr.unlockCertificate(cert.getId(), future.completer(), future::fail);
+            return future;
+        }).thenCompose(ignored -> refreshCertificatesAsync());
     }
 
     public void unlockCertificate(
@@ -109,39 +458,78 @@ public class CloudRepository extends Repository {
             @NonNull Runnable completion,
             @NonNull Consumer<Exception> onError)
     {
-        certMgr.unlockCertificate(cert.getId(),
-                () -> loadCertificates(completion, onError),
-                onError);
+        unlockCertificateAsync(cert).whenComplete(ignored -> completion.run(), onError);
     }
 
     public List<KSCertificateExt> getLockedCertificates() {
-        return this.certificates.stream().filter(KSCertificateExt::isLock).collect(Collectors.toList());
+        return index.getLockedCertificates();
+    }
+
+    public RepositoryFuture<Void> deleteAccountAsync() {
+        return whenReady(CertificateOperation.deleteAccount, () -> {
+            RepositoryFuture<Void> future = new RepositoryFuture<>();
+            certMgr.client.deleteAccount(() -> {
+                snapshotStore.clear();
+                invalidateCertificates();
+                CacheMetrics.getInstance().startSession();
+                future.complete(null);
+            }, future::fail);
+            return future;
+        });
     }
 
     public void deleteAccount(Runnable onComplete, Consumer<Exception> onError) {
-        certMgr.client.deleteAccount(onComplete, onError);
+        deleteAccountAsync().whenComplete(ignored -> onComplete.run(), onError);
+    }
+
+    public RepositoryFuture<Void> disconnectAsync() {
+        return whenReady(CertificateOperation.disconnect, () -> {
+            RepositoryFuture<Void> future = new RepositoryFuture<>();
+            certMgr.client.checkConnect(connected -> {
+                    if(connected) {
+                        certMgr.client.disconnect(() -> {
+                            setCertificates(null);
+                            invalidateCertificates();
+                            CacheMetrics.getInstance().startSession();
+                            future.complete(null);
+                        }, future::fail);
+                    }
+                    else {
+                        future.fail(new RuntimeException("클라우드에 연결되어 있지 않습니다."));
+                    }
+                }, future::fail);
+            return future;
+        });
     }
 
     public void disconnect(Runnable onComplete, Consumer<Exception> onError) {
-        certMgr.client.checkConnect(connected -> {
-                if(connected) {
-                    certMgr.client.disconnect(() -> {
-                        certificates = null;
-                        onComplete.run();
-                    }, onError);
-                }
-                else {
-                    onError.accept(new RuntimeException("클라우드에 연결되어 있지 않습니다."));
-                }
-            }, onError);
+        disconnectAsync().whenComplete(ignored -> onComplete.run(), onError);
+    }
+
+    public RepositoryFuture<String> getCurrentDeviceIdAsync() {
+        return whenReady(() -> RepositoryFuture.completed(certMgr.client.getCurrentDeviceId()));
+    }
+
+    public RepositoryFuture<List<AutoConnectDevice>> getAutoConnectDevicesAsync() {
+        return whenReady(() ->
+                singleFlight(GET_AUTO_CONNECT_DEVICES, OperationMetrics.getInstance().measureCall(CertificateOperation.getAutoConnectDevices, (done, fail) ->
+                        certMgr.client.getAutoConnectInfo(devices -> done.accept(Arrays.asList(devices)), fail::accept))));
     }
 
     public void getAutoConnectDevices(Consumer<List<AutoConnectDevice>> onComplete, Consumer<Exception> onError) {
-        certMgr.client.getAutoConnectInfo(devices -> onComplete.accept(Arrays.asList(devices)), onError);
+        getAutoConnectDevicesAsync().whenComplete(onComplete, onError);
+    }
+
+    public RepositoryFuture<Boolean> deleteAutoConnectDeviceAsync(String deviceId) {
+        return whenReady(CertificateOperation.deleteAutoConnectDevice, () -> {
+            RepositoryFuture<Boolean> future = new RepositoryFuture<>();
+            certMgr.client.deleteAutoConnect(deviceId, future::complete, future::fail);
+            return future;
+        });
     }
 
     public void deleteAutoConnectDevice(String deviceId, Consumer<Boolean> completion, Consumer<Exception> onError) {
-        certMgr.client.deleteAutoConnect(deviceId, completion, onError);
+        deleteAutoConnectDeviceAsync(deviceId).whenComplete(completion, onError);
     }
 
     // region Getters
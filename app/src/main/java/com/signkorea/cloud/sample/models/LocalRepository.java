@@ -3,19 +3,57 @@ package com.signkorea.cloud.sample.models;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.lumensoft.ks.KSSign;
 import com.signkorea.cloud.KSCertificateExt;
+import com.signkorea.cloud.sample.enums.CertificateOperation;
+import com.signkorea.cloud.sample.utils.AppExecutors;
+import com.signkorea.cloud.sample.utils.DocumentDigest;
 import com.signkorea.securedata.ProtectedData;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
 import java.util.Hashtable;
+import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public class LocalRepository extends Repository {
+    private static final String LOAD_CERTIFICATES = "loadCertificates";
+    // 일괄 서명 시 동시에 진행하는 서명 수 (worker 스레드 수 이내)
+    private static final int SIGN_CONCURRENCY = 2;
+
+    @Override
+    public RepositoryFuture<List<KSCertificateExt>> loadCertificatesAsync() {
+        return whenReady(() ->
+                singleFlight(LOAD_CERTIFICATES, OperationMetrics.getInstance().measureCall(CertificateOperation.get, (done, fail) ->
+                        certMgr.getUserCertificateListLocal(certs -> {
+                            setCertificates(certs);
+                            done.accept(certs);
+                        }, fail::accept))));
+    }
+
     @Override
-    public void loadCertificates(Runnable onComplete, Consumer<Exception> onError) {
-        certMgr.getUserCertificateListLocal(certs -> {
-            this.certificates = certs;
-            onComplete.run();
-        }, onError);
+    protected String getSnapshotName() {
+        return "local_certificates.snapshot";
+    }
+
+    public RepositoryFuture<Void> importCertificateAsync(
+            @NonNull byte[] certificate,
+            @NonNull byte[] key,
+            @Nullable byte[] kmCertificate,
+            @Nullable byte[] kmKey,
+            @NonNull ProtectedData secret,
+            @NonNull ProtectedData pin) {
+        return whenReady(CertificateOperation.register, () -> {
+            RepositoryFuture<Void> future = new RepositoryFuture<>();
+            certMgr.importCertificate(
+                    certificate, key,
+                    kmCertificate, kmKey,
+                    secret, pin,
+                    future.completer(), future::fail);
+            return future;
+        });
     }
 
     public void importCertificate(
@@ -27,22 +65,114 @@ public class LocalRepository extends Repository {
             @NonNull ProtectedData pin,
             @NonNull Runnable completion,
             @NonNull Consumer<Exception> onError) {
-        certMgr.importCertificate(
-                certificate, key,
-                kmCertificate, kmKey,
-                secret, pin,
-                completion, onError);
+        importCertificateAsync(certificate, key, kmCertificate, kmKey, secret, pin)
+                .whenComplete(ignored -> completion.run(), onError);
+    }
+
+    // updateLocal은 블로킹 호출이므로 worker에서 실행
+    public RepositoryFuture<Hashtable<String, Object>> updateCertificateLocalAsync(KSCertificateExt cert,
+                                                                                 @NonNull ProtectedData pwd) {
+        return whenReady(CertificateOperation.updateLocal, () ->
+                AppExecutors.getInstance().submitCallback("updateLocal",
+                        completion -> certMgr.updateLocal(cert.getCertificate(),
+                                cert.getKey(),
+                                pwd,
+                                256,
+                                true,       // 테스트서버: true, 가동서버: false
+                                completion)));
     }
 
     public void updateCertificateLocal(KSCertificateExt cert,
                                        @NonNull ProtectedData pwd,
-                                       @NonNull Consumer<Hashtable<String, Object>> completion) {
-        certMgr.updateLocal(cert.getCertificate(),
-                cert.getKey(),
-                pwd,
-                256,
-                true,       // 테스트서버: true, 가동서버: false
-                completion);
+                                       @NonNull Consumer<Hashtable<String, Object>> completion,
+                                       @NonNull Consumer<Exception> onError) {
+        updateCertificateLocalAsync(cert, pwd).whenComplete(completion, onError);
+    }
+
+    // KSSign.sign은 개인키 복호화를 포함한 블로킹 호출이므로 worker에서 실행
+    // signType: KSSign.KOSCOM, KSSign.KOSCOM_BRIEF
+    public RepositoryFuture<byte[]> signAsync(KSCertificateExt cert,
+                                              int signType,
+                                              @NonNull byte[] plain,
+                                              @NonNull ProtectedData pwd) {
+        return signAsync(cert, signType, plain, pwd, () -> {});
+    }
+
+    // onFinished: 취소 여부와 관계없이 KSSign.sign이 끝난 후 메인 스레드에서 실행 (pwd 해제용)
+    // 취소해도 실행 중인 서명은 중단되지 않으므로 pwd는 취소 시점이 아니라 여기서 해제
+    public RepositoryFuture<byte[]> signAsync(KSCertificateExt cert,
+                                              int signType,
+                                              @NonNull byte[] plain,
+                                              @NonNull ProtectedData pwd,
+                                              @NonNull Runnable onFinished) {
+        return OperationMetrics.getInstance().measure(CertificateOperation.sign, () ->
+                AppExecutors.getInstance().submit("KSSign.sign", () -> KSSign.sign(signType, cert.cert, plain, pwd), onFinished));
+    }
+
+    public void sign(KSCertificateExt cert,
+                     int signType,
+                     @NonNull byte[] plain,
+                     @NonNull ProtectedData pwd,
+                     @NonNull Consumer<byte[]> completion,
+                     @NonNull Consumer<Exception> onError) {
+        signAsync(cert, signType, plain, pwd).whenComplete(completion, onError);
+    }
+
+    // 여러 원문을 한 번 입력받은 비밀번호로 서명 (결과는 요청 순서대로, 항목별 오류 포함)
+    // KSSign은 서명할 때마다 개인키를 복호화하므로 비밀번호는 일괄 서명이 끝난 후 호출자가 해제
+    public RepositoryFuture<BatchSignResult> signBatchAsync(KSCertificateExt cert,
+                                                            int signType,
+                                                            @NonNull List<byte[]> plains,
+                                                            @NonNull ProtectedData pwd,
+                                                            @Nullable BiConsumer<Integer, BatchResult<Integer>> onProgress) {
+        return signBatch(plains, SIGN_CONCURRENCY, plain -> signAsync(cert, signType, plain, pwd), onProgress);
+    }
+
+    public void signBatch(KSCertificateExt cert,
+                          int signType,
+                          @NonNull List<byte[]> plains,
+                          @NonNull ProtectedData pwd,
+                          @NonNull Consumer<BatchSignResult> completion,
+                          @NonNull Consumer<Exception> onError) {
+        signBatchAsync(cert, signType, plains, pwd, null).whenComplete(completion, onError);
+    }
+
+    // 해시 서명 (표준 detached CMS가 아님)
+    // 문서를 일정 크기씩 읽어 해시(SHA-256)를 계산한 후 32바이트 해시값을 원문으로 하여 KSSign으로 서명 (worker에서 실행)
+    // 서명값의 서명 원문(CMS content)은 문서가 아니라 해시값이므로, 검증 측은 문서의 SHA-256을 직접 계산해 서명 원문과 비교해야 함
+    // (KSSign에 외부 해시로 detached SignedData를 만드는 API가 없어 문서 서명과 구분되는 이름을 사용)
+    // signType: KSSign.KOSCOM, KSSign.KOSCOM_BRIEF (document는 호출자가 닫음)
+    public RepositoryFuture<byte[]> signDocumentHashAsync(KSCertificateExt cert,
+                                                          int signType,
+                                                          @NonNull InputStream document,
+                                                          @NonNull ProtectedData pwd) {
+        return OperationMetrics.getInstance().measure(CertificateOperation.signDocumentHash, () ->
+                AppExecutors.getInstance().submit("KSSign.signDocumentHash", () ->
+                        KSSign.sign(signType, cert.cert, DocumentDigest.digest(document), pwd)));
+    }
+
+    // 파일은 메모리 매핑하여 해시 계산
+    public RepositoryFuture<byte[]> signDocumentHashAsync(KSCertificateExt cert,
+                                                          int signType,
+                                                          @NonNull File document,
+                                                          @NonNull ProtectedData pwd) {
+        return OperationMetrics.getInstance().measure(CertificateOperation.signDocumentHash, () ->
+                AppExecutors.getInstance().submit("KSSign.signDocumentHash", () -> {
+                    byte[] digest;
+                    try (FileInputStream in = new FileInputStream(document)) {
+                        digest = DocumentDigest.digest(in.getChannel());
+                    }
+                    return KSSign.sign(signType, cert.cert, digest, pwd);
+                }));
+    }
+
+    public void signDocumentHash(KSCertificateExt cert,
+                                 int signType,
+                                 @NonNull File document,
+                                 @NonNull ProtectedData pwd,
+                                 @NonNull Consumer<byte[]> completion,
+                                 @NonNull Consumer<Exception> onError) {
+        signDocumentHashAsync(cert, signType, document, pwd).whenComplete(completion, onError);
     }
 
     public static LocalRepository getInstance() {
@@ -0,0 +1,152 @@
+package com.signkorea.cloud.sample.models;
+
+import android.content.Context;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.signkorea.cloud.sample.enums.CertificateOperation;
+import com.signkorea.cloud.sample.utils.AppExecutors;
+import com.signkorea.cloud.sample.utils.LatencyHistogram;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// 저장소 SDK 호출 소요 시간 통계 (작업 종류 × 결과별 히스토그램)
+// 결과: 성공은 "success", 실패는 예외 클래스 이름
+// 실험실 측정 시 export()로 앱 전용 외부 저장소(files/metrics)에 텍스트 파일로 저장
+public class OperationMetrics {
+    public static final String SUCCESS = "success";
+
+    private final Map<CertificateOperation, Map<String, LatencyHistogram>> histograms =
+            new EnumMap<>(CertificateOperation.class);
+
+    // call의 시작부터 완료/실패까지의 시간을 기록
+    public <T> RepositoryFuture<T> measure(@NonNull CertificateOperation operation,
+                                           @NonNull Supplier<RepositoryFuture<T>> call) {
+        long startedAt = SystemClock.elapsedRealtimeNanos();
+        RepositoryFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            record(operation, SystemClock.elapsedRealtimeNanos() - startedAt, e);
+            throw e;
+        }
+
+        future.whenComplete(ignored -> record(operation, SystemClock.elapsedRealtimeNanos() - startedAt, null),
+                e -> record(operation, SystemClock.elapsedRealtimeNanos() - startedAt, e));
+        return future;
+    }
+
+    // 콜백 방식 호출의 시작부터 완료/실패까지의 시간을 기록 (반환된 호출이 실행될 때만 기록)
+    // single-flight로 합쳐진 호출은 실제 SDK 호출 한 번만 기록되도록 선행 호출에만 적용
+    public <T> BiConsumer<Consumer<T>, Consumer<Exception>> measureCall(
+            @NonNull CertificateOperation operation,
+            @NonNull BiConsumer<Consumer<T>, Consumer<Exception>> call) {
+        return (done, fail) -> {
+            long startedAt = SystemClock.elapsedRealtimeNanos();
+            call.accept(result -> {
+                record(operation, SystemClock.elapsedRealtimeNanos() - startedAt, null);
+                done.accept(result);
+            }, e -> {
+                record(operation, SystemClock.elapsedRealtimeNanos() - startedAt, e);
+                fail.accept(e);
+            });
+        };
+    }
+
+    public void record(@NonNull CertificateOperation operation, long nanos, @Nullable Exception error) {
+        String outcome = error == null ? SUCCESS : error.getClass().getSimpleName();
+        LatencyHistogram histogram;
+        synchronized (histograms) {
+            histogram = histograms
+                    .computeIfAbsent(operation, key -> new TreeMap<>())
+                    .computeIfAbsent(outcome, key -> new LatencyHistogram());
+        }
+        histogram.record(nanos / 1000);
+    }
+
+    @Nullable
+    public LatencyHistogram getHistogram(@NonNull CertificateOperation operation, @NonNull String outcome) {
+        synchronized (histograms) {
+            Map<String, LatencyHistogram> outcomes = histograms.get(operation);
+            return outcomes == null ? null : outcomes.get(outcome);
+        }
+    }
+
+    public void reset() {
+        synchronized (histograms) {
+            histograms.clear();
+        }
+    }
+
+    // 작업/결과별 건수, 평균, p50/p95/p99, 최대 (ms)
+    public String report() {
+        StringBuilder sb = new StringBuilder("operation\toutcome\tcount\tmean\tp50\tp95\tp99\tmax\n");
+        synchronized (histograms) {
+            for (Map.Entry<CertificateOperation, Map<String, LatencyHistogram>> operation : histograms.entrySet()) {
+                for (Map.Entry<String, LatencyHistogram> outcome : operation.getValue().entrySet()) {
+                    LatencyHistogram histogram = outcome.getValue();
+                    sb.append(operation.getKey().name())
+                            .append('\t').append(outcome.getKey())
+                            .append('\t').append(histogram.getCount())
+                            .append(String.format(Locale.US, "\t%.1f\t%.1f\t%.1f\t%.1f\t%.1f",
+                                    histogram.getMean() / 1000.0,
+                                    histogram.getPercentile(50) / 1000.0,
+                                    histogram.getPercentile(95) / 1000.0,
+                                    histogram.getPercentile(99) / 1000.0,
+                                    histogram.getMax() / 1000.0))
+                            .append('\n');
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    // 통계를 텍스트 파일로 저장 (diskIO에서 기록 후 메인 스레드로 파일 전달)
+    public RepositoryFuture<File> export(@NonNull Context context) {
+        RepositoryFuture<File> future = new RepositoryFuture<>();
+        String report = report();
+        String name = "latency-" + new SimpleDateFormat("yyyyMMdd-HHmmss", Locale.US).format(new Date()) + ".txt";
+        File dir = new File(context.getExternalFilesDir(null), "metrics");
+
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            File file = new File(dir, name);
+            try {
+                if (!dir.isDirectory() && !dir.mkdirs())
+                    throw new IOException("디렉터리를 생성할 수 없습니다: " + dir);
+
+                try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+                    writer.write(report);
+                }
+                AppExecutors.getInstance().mainThread().execute(() -> future.complete(file));
+            } catch (IOException e) {
+                AppExecutors.getInstance().mainThread().execute(() -> future.fail(e));
+            }
+        });
+        return future;
+    }
+
+    public static OperationMetrics getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final OperationMetrics INSTANCE = new OperationMetrics();
+        private Singleton() {}
+    }
+}
@@ -0,0 +1,265 @@
+package com.signkorea.cloud.sample.models;
+
+import android.os.SystemClock;
+import android.util.Log;
+import android.util.Pair;
+
+import androidx.annotation.NonNull;
+
+import com.signkorea.cloud.sample.enums.CachePath;
+import com.signkorea.cloud.sample.enums.CertificateOperation;
+import com.signkorea.cloud.sample.utils.AppExecutors;
+import com.signkorea.cloud.sample.utils.LatencyHistogram;
+import com.signkorea.securedata.ProtectedData;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 주문 서명 전용 처리기 (축약서명)
+// - 전용 스레드에서 접수 순서대로 캐시 서명(블로킹)을 직접 호출하고, 캐시에 인증서가 없을 때만 서버 서명 후 응답까지 대기
+//   공용 worker 대기열을 사용하지 않으며 서명 결과 전달 외에는 메인 스레드를 거치지 않음
+//   (초기화 전에 접수된 주문만 초기화 완료까지 대기)
+// - 대기열이 가득 차면 새 주문은 RejectedExecutionException으로 실패 처리 (주문을 쌓아두지 않음)
+// - 주문별 접수~서명 종료 시간을 결과(성공/실패/제한 시간 초과)별 히스토그램으로 기록 (p99 등)
+//   대기열 초과로 거절된 주문은 서명을 시도하지 않으므로 건수만 기록
+public class OrderSigningEngine {
+    private static final String TAG = OrderSigningEngine.class.getSimpleName();
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 32;
+    private static final long SIGN_TIMEOUT_MILLIS = 30 * 1000;
+
+    private final CloudRepository cloudRepo;
+    private final ThreadPoolExecutor signer;
+    private final LatencyHistogram latency = new LatencyHistogram();             // 성공
+    private final LatencyHistogram failedLatency = new LatencyHistogram();       // 실패 (제한 시간 초과 제외)
+    private final LatencyHistogram timedOutLatency = new LatencyHistogram();     // 제한 시간 초과
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    OrderSigningEngine(@NonNull CloudRepository cloudRepo, int queueCapacity) {
+        this.cloudRepo = cloudRepo;
+        this.signer = new ThreadPoolExecutor(1, 1,
+                0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "sk-order-signer"));
+    }
+
+    // 주문 서명 요청 (결과는 메인 스레드로 전달)
+    // 서명값과 캐시 사용 여부 (false: 캐시에 인증서가 없어 서버 서명(koscomCMSSign)으로 대체)
+    // onFinished: 취소/제한 시간 초과 여부와 관계없이 pin을 사용하는 서명 호출이 모두 끝난 후 메인 스레드에서 실행 (pin 해제용)
+    public RepositoryFuture<Pair<byte[], Boolean>> submit(@NonNull String certId,
+                                                          @NonNull CharSequence order,
+                                                          @NonNull ProtectedData pin,
+                                                          @NonNull Runnable onFinished) {
+        long acceptedAt = SystemClock.elapsedRealtimeNanos();
+        RepositoryFuture<Pair<byte[], Boolean>> future = new RepositoryFuture<>();
+        PinUsage usage = new PinUsage(onFinished);
+
+        try {
+            Future<?> pending = signer.submit(() -> {
+                if (usage.start())
+                    sign(certId, order, pin, acceptedAt, future, usage);
+            });
+            // 아직 서명하지 않은 주문은 대기열에서 제외
+            future.onCancel(() -> {
+                pending.cancel(false);
+                signer.purge();
+                if (usage.start())      // 시작 전이면 서명하지 않으므로 여기서 완료 처리
+                    usage.release();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            Log.w(TAG, "주문 대기열 초과 (" + signer.getQueue().size() + ")");
+            AppExecutors.getInstance().mainThread().execute(() ->
+                    future.fail(new RejectedExecutionException("대기 중인 주문이 많습니다. 잠시 후 다시 시도해주세요.", e)));
+            usage.release();
+        }
+
+        return future;
+    }
+
+    // signer 스레드에서 실행
+    private void sign(String certId, CharSequence order, ProtectedData pin, long acceptedAt,
+                      RepositoryFuture<Pair<byte[], Boolean>> future, PinUsage usage) {
+        if (future.isDone()) {  // 대기 중 취소됨
+            usage.release();
+            return;
+        }
+
+        long deadline = acceptedAt + TimeUnit.MILLISECONDS.toNanos(SIGN_TIMEOUT_MILLIS);
+        Pair<byte[], Boolean> result = null;
+        Exception error = null;
+        long startedAt = 0;
+        try {
+            awaitReady(deadline);
+            startedAt = SystemClock.elapsedRealtimeNanos();
+            byte[] plain = order.toString().getBytes(StandardCharsets.UTF_8);
+            result = briefSign(certId, plain, pin, deadline, usage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = e;
+        } catch (Exception e) {
+            error = e;
+        } finally {
+            usage.release();
+        }
+
+        long now = SystemClock.elapsedRealtimeNanos();
+        if (startedAt != 0)
+            OperationMetrics.getInstance().record(CertificateOperation.briefSign, now - startedAt, error);
+
+        long micros = (now - acceptedAt) / 1000;
+        if (error == null)
+            latency.record(micros);
+        else if (error instanceof TimeoutException)
+            timedOutLatency.record(micros);
+        else
+            failedLatency.record(micros);
+
+        Pair<byte[], Boolean> signed = result;
+        Exception failed = error;
+        AppExecutors.getInstance().mainThread().execute(() -> {
+            if (failed == null)
+                future.complete(signed);
+            else
+                future.fail(failed);
+        });
+    }
+
+    // 캐시 서명, 캐시에 인증서가 없으면 같은 PIN으로 서버 서명
+    // 제한 시간이 지나도 서버 서명 요청은 계속 pin을 사용하므로 응답을 받을 때까지 usage를 유지
+    private Pair<byte[], Boolean> briefSign(String certId, byte[] plain, ProtectedData pin,
+                                            long deadline, PinUsage usage) throws Exception {
+        try {
+            return new Pair<>(cloudRepo.koscomBriefSignCache(certId, plain, pin), true);
+        } catch (Exception e) {
+            if (!CacheMetrics.isCacheMiss(e))
+                throw e;
+        }
+
+        Log.i(TAG, "축약서명 캐시 없음, 서버 서명으로 대체");
+        byte[][] signature = new byte[1][];
+        Exception[] error = new Exception[1];
+        CountDownLatch done = new CountDownLatch(1);
+        usage.retain();
+        try {
+            cloudRepo.requestKoscomCMSSign(certId, plain, pin, result -> {
+                signature[0] = result;
+                done.countDown();
+                usage.release();
+            }, e -> {
+                error[0] = e;
+                done.countDown();
+                usage.release();
+            });
+        } catch (RuntimeException e) {
+            usage.release();
+            throw e;
+        }
+        await(done, deadline);
+        if (error[0] != null)
+            throw error[0];
+
+        fallbackCount.incrementAndGet();
+        CacheMetrics.getInstance().recordFallback(CachePath.koscomBriefSign, certId);
+        return new Pair<>(signature[0], false);
+    }
+
+    // 초기화가 끝났으면 signer 스레드에서 바로 반환
+    private void awaitReady(long deadline) throws Exception {
+        Exception[] error = new Exception[1];
+        CountDownLatch ready = new CountDownLatch(1);
+        RepositoryStartup.getInstance().whenReady().whenComplete(ignored -> ready.countDown(), e -> {
+            error[0] = e;
+            ready.countDown();
+        });
+        await(ready, deadline);
+        if (error[0] != null)
+            throw error[0];
+    }
+
+    private static void await(CountDownLatch latch, long deadline) throws InterruptedException, TimeoutException {
+        long remaining = deadline - SystemClock.elapsedRealtimeNanos();
+        if (!latch.await(remaining, TimeUnit.NANOSECONDS))
+            throw new TimeoutException(SIGN_TIMEOUT_MILLIS + "ms 내에 응답이 없습니다.");
+    }
+
+    // 성공한 주문의 접수~서명 완료 시간 (μs)
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    // 실패한 주문의 접수~실패 시간 (μs, 제한 시간 초과 제외)
+    public LatencyHistogram getFailedLatency() {
+        return failedLatency;
+    }
+
+    // 제한 시간을 초과한 주문의 접수~초과 시간 (μs)
+    public LatencyHistogram getTimedOutLatency() {
+        return timedOutLatency;
+    }
+
+    // 대기열 초과로 거절된 주문 수
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    // 캐시에 인증서가 없어 서버 서명으로 대체한 주문 수
+    public long getFallbackCount() {
+        return fallbackCount.get();
+    }
+
+    // 성공한 주문 99%의 접수~서명 완료 시간 (ms)
+    public double getP99Millis() {
+        return latency.getPercentile(99) / 1000.0;
+    }
+
+    public int getPendingCount() {
+        return signer.getQueue().size();
+    }
+
+    // 서명에 사용 중인 pin의 사용처 수 (signer 스레드, 서버 서명 응답 대기)
+    // 모두 끝나면 onFinished를 메인 스레드에서 한 번 실행
+    private static class PinUsage {
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicInteger holders = new AtomicInteger(1);
+        private final Runnable onFinished;
+
+        PinUsage(Runnable onFinished) {
+            this.onFinished = onFinished;
+        }
+
+        // signer 스레드 실행과 대기 중 취소 중 먼저 호출한 쪽만 true
+        boolean start() {
+            return started.compareAndSet(false, true);
+        }
+
+        void retain() {
+            holders.incrementAndGet();
+        }
+
+        void release() {
+            if (holders.decrementAndGet() == 0)
+                AppExecutors.getInstance().mainThread().execute(onFinished);
+        }
+    }
+
+    public static OrderSigningEngine getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final OrderSigningEngine INSTANCE =
+                new OrderSigningEngine(CloudRepository.getInstance(), DEFAULT_QUEUE_CAPACITY);
+        private Singleton() {}
+    }
+}
@@ -2,38 +2,261 @@ package com.signkorea.cloud.sample.models;
 
 import android.content.Context;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
 import com.signkorea.cloud.KSCertificateExt;
 import com.signkorea.cloud.KSCertificateManagerExt;
-import com.yettiesoft.cloud.Client;
-import com.yettiesoft.cloud.InvalidLicenseException;
+import com.signkorea.cloud.sample.enums.CertificateOperation;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public abstract class Repository {
+    protected final String TAG = getClass().getSimpleName();
     protected Context context;
     protected KSCertificateManagerExt certMgr;
     protected List<KSCertificateExt> certificates;
+    protected volatile CertificateIndex index = CertificateIndex.EMPTY;
+    protected CertificateSnapshotStore snapshotStore;
+
+    // 인증서 목록이 변경된 경우 변경 내역을 통지받을 observer 목록
+    private final List<Consumer<CertificateDelta>> certificatesObservers = new CopyOnWriteArrayList<>();
 
-    public void init(Context context,
-                     Client.Delegate clientDelegate,
-                     KSCertificateManagerExt.Delegate cmpDelegate) throws InvalidLicenseException {
+    // 동일한 key로 진행 중인 SDK 호출 목록
+    private final Map<String, InFlight<?>> inFlights = new HashMap<>();
+
+    // 화면 표시 전 메인 스레드에서 호출 (스냅샷 등 가벼운 준비만 수행)
+    // 인증서 관리자 초기화는 RepositoryStartup에서 백그라운드로 진행
+    public void attach(Context context) {
         this.context = context;
-        certMgr = new KSCertificateManagerExt()
-                .init(context)
-                .setClientDelegate(clientDelegate)
-                .setCMPDelegate(cmpDelegate);
+        if (snapshotStore == null) {
+            snapshotStore = new CertificateSnapshotStore(context, getSnapshotName());
+            snapshotStore.preload();
+        }
+    }
+
+    // 시작 단계에서 초기화한 공유 인증서 관리자 연결
+    void setCertMgr(KSCertificateManagerExt certMgr) {
+        this.certMgr = certMgr;
+    }
+
+    // 인증서 관리자 초기화가 끝난 후 call 실행 (이미 초기화된 경우 바로 실행)
+    protected <T> RepositoryFuture<T> whenReady(Supplier<RepositoryFuture<T>> call) {
+        return RepositoryStartup.getInstance().whenReady().thenCompose(ignored -> call.get());
     }
 
-    public abstract void loadCertificates(Runnable onComplete, Consumer<Exception> onError);
+    // whenReady() + 작업별 소요 시간 기록 (초기화 대기 시간은 제외)
+    protected <T> RepositoryFuture<T> whenReady(CertificateOperation operation, Supplier<RepositoryFuture<T>> call) {
+        return whenReady(() -> OperationMetrics.getInstance().measure(operation, call));
+    }
+
+    // onFinished: call이 시작한 SDK 호출이 끝났을 때 call에서 직접 실행 (취소해도 SDK 호출은 계속되므로)
+    // 초기화 대기 중 취소/실패하여 call을 시작하지 않은 경우에는 여기서 실행
+    protected <T> RepositoryFuture<T> whenReady(Runnable onFinished, Supplier<RepositoryFuture<T>> call) {
+        AtomicBoolean started = new AtomicBoolean();
+        RepositoryFuture<T> future = whenReady(() -> {
+            if (!started.compareAndSet(false, true))
+                return RepositoryFuture.failed(new CancellationException());
+
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                onFinished.run();
+                throw e;
+            }
+        });
+        future.whenComplete(ignored -> {}, e -> {
+            if (started.compareAndSet(false, true))
+                onFinished.run();
+        });
+        return future;
+    }
+
+    protected <T> RepositoryFuture<T> whenReady(CertificateOperation operation,
+                                                Runnable onFinished,
+                                                Supplier<RepositoryFuture<T>> call) {
+        return whenReady(onFinished, () -> OperationMetrics.getInstance().measure(operation, call));
+    }
+
+    // 초기화가 끝난 인증서 관리자 (Bio 등 관리자를 직접 사용하는 SDK API용)
+    public RepositoryFuture<KSCertificateManagerExt> getCertMgrAsync() {
+        return whenReady(() -> RepositoryFuture.completed(certMgr));
+    }
+
+    public abstract RepositoryFuture<List<KSCertificateExt>> loadCertificatesAsync();
+
+    public void loadCertificates(Runnable onComplete, Consumer<Exception> onError) {
+        loadCertificatesAsync().whenComplete(ignored -> onComplete.run(), onError);
+    }
+
+    // 인증서 메타데이터 스냅샷 파일명
+    protected abstract String getSnapshotName();
+
+    // 로딩한 인증서 목록 반영 (인덱스 교체), 스냅샷 저장 후 이전 목록 대비 변경 내역 통지
+    // 메인 스레드에서 호출되므로 스냅샷 파일은 읽지 않음: 아직 읽지 않은 스냅샷(preload 전)은
+    // 화면에도 표시되지 않았으므로 빈 목록을 이전 목록으로 사용
+    protected void setCertificates(List<KSCertificateExt> certificates) {
+        CertificateIndex index = CertificateIndex.of(certificates);
+        List<CertificateMetadata> previous = snapshotStore.peek();
+        if (previous == null)
+            previous = Collections.emptyList();
+        synchronized (this) {
+            this.certificates = certificates;
+            this.index = index;
+        }
+        List<CertificateMetadata> current = snapshotStore.save(certificates);
+
+        CertificateDelta delta = CertificateDelta.between(previous, current);
+        if (!delta.isEmpty())
+            notifyCertificatesChanged(delta);
+    }
+
+    @Nullable
+    public KSCertificateExt findById(@Nullable String id) {
+        return index.findById(id);
+    }
+
+    @Nullable
+    public KSCertificateExt findBySubjectDn(@Nullable String subjectDn) {
+        return index.findBySubjectDn(subjectDn);
+    }
 
     public void setViewContext(Context context) {
         this.context = context;
     }
 
+    // region Batch signing
+    // 첫 번째 항목을 먼저 서명하여 PIN을 확인한 후 나머지를 최대 concurrency개씩 동시에 서명
+    // 첫 항목이 실패하면 (PIN 오류 등) 나머지는 요청하지 않고 전체 실패 처리 (PIN 오류 횟수 누적 방지)
+    protected RepositoryFuture<BatchSignResult> signBatch(@NonNull List<byte[]> payloads,
+                                                          int concurrency,
+                                                          @NonNull Function<byte[], RepositoryFuture<byte[]>> sign,
+                                                          @Nullable BiConsumer<Integer, BatchResult<Integer>> onProgress) {
+        byte[][] signatures = new byte[payloads.size()][];
+        if (payloads.isEmpty())
+            return RepositoryFuture.completed(new BatchSignResult(signatures, new BatchResult<>(0)));
+
+        Function<Integer, RepositoryFuture<byte[]>> signAt = index ->
+                sign.apply(payloads.get(index)).thenApply(signature -> signatures[index] = signature);
+
+        List<Integer> indices = new ArrayList<>(payloads.size());
+        for (int i = 0; i < payloads.size(); i++)
+            indices.add(i);
+
+        // 일괄 전체 소요 시간 (항목별 서명은 각 서명 작업으로 따로 기록됨)
+        return OperationMetrics.getInstance().measure(CertificateOperation.signBatch, () -> {
+            RepositoryFuture<byte[]> first = signAt.apply(0);
+            return first
+                    .thenCompose(ignored -> RepositoryFuture.forEach(indices, concurrency,
+                            index -> index == 0 ? first : signAt.apply(index), onProgress))
+                    .thenApply(result -> new BatchSignResult(signatures, result));
+        });
+    }
+    // endregion
+
+    // region Observers
+    public void addCertificatesObserver(Consumer<CertificateDelta> observer) {
+        certificatesObservers.add(observer);
+    }
+
+    public void removeCertificatesObserver(Consumer<CertificateDelta> observer) {
+        certificatesObservers.remove(observer);
+    }
+
+    protected void notifyCertificatesChanged(CertificateDelta delta) {
+        for (Consumer<CertificateDelta> observer : certificatesObservers)
+            observer.accept(delta);
+    }
+    // endregion
+
+    // region Single-flight
+    // 동일한 key의 호출이 진행 중이면 SDK를 새로 호출하지 않고, 진행 중인 호출의 결과/오류를 함께 전달받음
+    @SuppressWarnings("unchecked")
+    protected <T> void singleFlight(String key,
+                                    BiConsumer<Consumer<T>, Consumer<Exception>> call,
+                                    Consumer<T> onComplete,
+                                    Consumer<Exception> onError) {
+        InFlight<T> flight;
+        synchronized (inFlights) {
+            flight = (InFlight<T>) inFlights.get(key);
+            if (flight != null) {
+                flight.add(onComplete, onError);
+                return;
+            }
+
+            flight = new InFlight<>();
+            flight.add(onComplete, onError);
+            inFlights.put(key, flight);
+        }
+
+        final InFlight<T> started = flight;
+        try {
+            call.accept(result -> finish(key, started).complete(result),
+                    e -> finish(key, started).fail(e));
+        } catch (RuntimeException e) {
+            finish(key, started).fail(e);
+        }
+    }
+
+    protected <T> RepositoryFuture<T> singleFlight(String key, BiConsumer<Consumer<T>, Consumer<Exception>> call) {
+        RepositoryFuture<T> future = new RepositoryFuture<>();
+        singleFlight(key, call, future::complete, future::fail);
+        return future;
+    }
+
+    private <T> InFlight<T> finish(String key, InFlight<T> flight) {
+        synchronized (inFlights) {
+            if (inFlights.get(key) == flight)
+                inFlights.remove(key);
+        }
+        return flight;
+    }
+
+    private static class InFlight<T> {
+        private final List<Consumer<T>> completions = new ArrayList<>();
+        private final List<Consumer<Exception>> errors = new ArrayList<>();
+
+        synchronized void add(Consumer<T> onComplete, Consumer<Exception> onError) {
+            completions.add(onComplete);
+            errors.add(onError);
+        }
+
+        void complete(T result) {
+            List<Consumer<T>> callbacks;
+            synchronized (this) {
+                callbacks = new ArrayList<>(completions);
+            }
+            for (Consumer<T> callback : callbacks)
+                callback.accept(result);
+        }
+
+        void fail(Exception e) {
+            List<Consumer<Exception>> callbacks;
+            synchronized (this) {
+                callbacks = new ArrayList<>(errors);
+            }
+            for (Consumer<Exception> callback : callbacks)
+                callback.accept(e);
+        }
+    }
+    // endregion
+
     // region Getters
     public List<KSCertificateExt> getCertificates() { return certificates; }
     public KSCertificateManagerExt getCertMgr() { return certMgr; }
+    // 마지막으로 로딩했던 인증서 목록의 메타데이터 (앱 재시작 후에도 유지, 변경 내역의 기준 목록)
+    public List<CertificateMetadata> getSnapshot() { return snapshotStore.load(); }
+    public RepositoryFuture<List<CertificateMetadata>> getSnapshotAsync() { return snapshotStore.loadAsync(); }
     // endregion
 }
@@ -0,0 +1,295 @@
+package com.signkorea.cloud.sample.models;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// 저장소 비동기 호출 결과 (취소/제한 시간 지원)
+// 취소되거나 제한 시간이 지난 이후 도착한 SDK 콜백 결과는 무시됨
+// 취소/제한 시간 초과는 각각 CancellationException, TimeoutException으로 오류 콜백에 전달
+public class RepositoryFuture<T> {
+    private enum State { PENDING, COMPLETED, FAILED }
+
+    private State state = State.PENDING;
+    private T result;
+    private Exception error;
+
+    private final List<Consumer<T>> completions = new ArrayList<>();
+    private final List<Consumer<Exception>> errors = new ArrayList<>();
+    private final List<Runnable> cancelHooks = new ArrayList<>();
+    private Runnable timeout;
+    private boolean aborted;
+
+    public static <T> RepositoryFuture<T> completed(@Nullable T result) {
+        RepositoryFuture<T> future = new RepositoryFuture<>();
+        future.complete(result);
+        return future;
+    }
+
+    public static <T> RepositoryFuture<T> failed(@NonNull Exception e) {
+        RepositoryFuture<T> future = new RepositoryFuture<>();
+        future.fail(e);
+        return future;
+    }
+
+    // region SDK 콜백 연결
+    public boolean complete(@Nullable T result) {
+        List<Consumer<T>> callbacks;
+        synchronized (this) {
+            if (state != State.PENDING)
+                return false;
+
+            state = State.COMPLETED;
+            this.result = result;
+            callbacks = new ArrayList<>(completions);
+            clearCallbacks();
+        }
+
+        for (Consumer<T> callback : callbacks)
+            callback.accept(result);
+        return true;
+    }
+
+    public boolean fail(@NonNull Exception e) {
+        return fail(e, false);
+    }
+
+    // abort: 취소/제한 시간 초과로 인한 실패 (등록된 취소 작업 실행)
+    private boolean fail(@NonNull Exception e, boolean abort) {
+        List<Consumer<Exception>> callbacks;
+        List<Runnable> hooks;
+        synchronized (this) {
+            if (state != State.PENDING)
+                return false;
+
+            state = State.FAILED;
+            this.error = e;
+            this.aborted = abort;
+            callbacks = new ArrayList<>(errors);
+            hooks = abort ? new ArrayList<>(cancelHooks) : new ArrayList<>();
+            clearCallbacks();
+        }
+
+        for (Consumer<Exception> callback : callbacks)
+            callback.accept(e);
+        for (Runnable hook : hooks)
+            hook.run();
+        return true;
+    }
+
+    // Void 결과 호출용 (Runnable 콜백)
+    public Runnable completer() {
+        return () -> complete(null);
+    }
+    // endregion
+
+    public boolean cancel() {
+        return abort(new CancellationException());
+    }
+
+    // 제한 시간 (ms) 내에 완료되지 않으면 TimeoutException으로 실패 처리
+    public RepositoryFuture<T> withTimeout(long millis) {
+        Runnable task = () -> abort(new TimeoutException(millis + "ms 내에 응답이 없습니다."));
+
+        synchronized (this) {
+            if (state != State.PENDING)
+                return this;
+
+            if (timeout != null)
+                MainHandler.INSTANCE.removeCallbacks(timeout);
+            timeout = task;
+        }
+
+        MainHandler.INSTANCE.postDelayed(task, millis);
+        return this;
+    }
+
+    // 취소/제한 시간 초과 시 함께 중단할 작업 등록
+    public RepositoryFuture<T> onCancel(@NonNull Runnable hook) {
+        boolean run;
+        synchronized (this) {
+            if (state == State.PENDING) {
+                cancelHooks.add(hook);
+                return this;
+            }
+            run = aborted;
+        }
+
+        if (run)
+            hook.run();
+        return this;
+    }
+
+    public RepositoryFuture<T> whenComplete(@NonNull Consumer<T> onComplete, @NonNull Consumer<Exception> onError) {
+        State current;
+        synchronized (this) {
+            current = state;
+            if (current == State.PENDING) {
+                completions.add(onComplete);
+                errors.add(onError);
+                return this;
+            }
+        }
+
+        if (current == State.COMPLETED)
+            onComplete.accept(result);
+        else
+            onError.accept(error);
+        return this;
+    }
+
+    public <U> RepositoryFuture<U> thenApply(@NonNull Function<T, U> fn) {
+        RepositoryFuture<U> next = new RepositoryFuture<>();
+        next.onCancel(this::cancel);
+        whenComplete(value -> {
+            U mapped;
+            try {
+                mapped = fn.apply(value);
+            } catch (RuntimeException e) {
+                next.fail(e);
+                return;
+            }
+            next.complete(mapped);
+        }, next::fail);
+        return next;
+    }
+
+    // 이전 호출 완료 후 다음 호출을 이어서 진행 (취소 시 진행 중인 호출도 함께 취소)
+    public <U> RepositoryFuture<U> thenCompose(@NonNull Function<T, RepositoryFuture<U>> fn) {
+        RepositoryFuture<U> next = new RepositoryFuture<>();
+        next.onCancel(this::cancel);
+        whenComplete(value -> {
+            RepositoryFuture<U> inner;
+            try {
+                inner = fn.apply(value);
+            } catch (RuntimeException e) {
+                next.fail(e);
+                return;
+            }
+            next.onCancel(inner::cancel);
+            inner.whenComplete(next::complete, next::fail);
+        }, next::fail);
+        return next;
+    }
+
+    // 모든 호출이 완료되면 완료, 하나라도 실패하면 나머지를 취소하고 실패
+    public static RepositoryFuture<Void> allOf(@NonNull List<? extends RepositoryFuture<?>> futures) {
+        RepositoryFuture<Void> all = new RepositoryFuture<>();
+        if (futures.isEmpty()) {
+            all.complete(null);
+            return all;
+        }
+
+        int[] remaining = { futures.size() };
+        for (RepositoryFuture<?> future : futures) {
+            all.onCancel(future::cancel);
+            future.whenComplete(ignored -> {
+                boolean done;
+                synchronized (remaining) {
+                    done = --remaining[0] == 0;
+                }
+                if (done)
+                    all.complete(null);
+            }, all::abort);
+        }
+        return all;
+    }
+
+    // keys 항목별 호출을 최대 concurrency개까지 동시에 진행
+    // 실패한 항목이 있어도 나머지 항목을 계속 처리하고 전체 결과를 BatchResult로 전달
+    // onProgress: 항목 하나의 처리가 끝날 때마다 호출
+    public static <K> RepositoryFuture<BatchResult<K>> forEach(
+            @NonNull List<K> keys,
+            int concurrency,
+            @NonNull Function<K, RepositoryFuture<?>> call,
+            @Nullable BiConsumer<K, BatchResult<K>> onProgress)
+    {
+        if (concurrency < 1)
+            throw new IllegalArgumentException("concurrency: " + concurrency);
+
+        RepositoryFuture<BatchResult<K>> all = new RepositoryFuture<>();
+        BatchResult<K> result = new BatchResult<>(keys.size());
+        if (keys.isEmpty()) {
+            all.complete(result);
+            return all;
+        }
+
+        Iterator<K> pending = new ArrayList<>(keys).iterator();
+        Runnable[] next = new Runnable[1];
+        next[0] = () -> {
+            K key;
+            synchronized (result) {
+                if (all.isDone() || !pending.hasNext())
+                    return;
+                key = pending.next();
+            }
+
+            RepositoryFuture<?> future;
+            try {
+                future = call.apply(key);
+            } catch (RuntimeException e) {
+                future = failed(e);
+            }
+            all.onCancel(future::cancel);
+
+            Runnable processed = () -> {
+                if (onProgress != null)
+                    onProgress.accept(key, result);
+                if (result.isFinished())
+                    all.complete(result);
+                else
+                    next[0].run();
+            };
+            future.whenComplete(ignored -> {
+                result.succeed(key);
+                processed.run();
+            }, e -> {
+                result.fail(key, e);
+                processed.run();
+            });
+        };
+
+        for (int i = 0; i < Math.min(concurrency, keys.size()); i++)
+            next[0].run();
+        return all;
+    }
+
+    public synchronized boolean isDone() {
+        return state != State.PENDING;
+    }
+
+    public synchronized boolean isCancelled() {
+        return state == State.FAILED && error instanceof CancellationException;
+    }
+
+    private boolean abort(Exception e) {
+        return fail(e, true);
+    }
+
+    private void clearCallbacks() {
+        completions.clear();
+        errors.clear();
+        cancelHooks.clear();
+        if (timeout != null) {
+            MainHandler.INSTANCE.removeCallbacks(timeout);
+            timeout = null;
+        }
+    }
+
+    // 제한 시간을 사용할 때 생성 (Looper 없이도 클래스를 사용할 수 있도록)
+    private static class MainHandler {
+        private static final Handler INSTANCE = new Handler(Looper.getMainLooper());
+        private MainHandler() {}
+    }
+}
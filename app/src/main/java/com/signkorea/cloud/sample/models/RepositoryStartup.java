@@ -0,0 +1,103 @@
+package com.signkorea.cloud.sample.models;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import com.signkorea.cloud.KSCertificateManagerExt;
+import com.signkorea.cloud.sample.utils.AppExecutors;
+import com.signkorea.cloud.sample.utils.StartupTracer;
+import com.yettiesoft.cloud.Client;
+
+// 앱 시작 단계: 인증서 관리자 초기화 (라이선스 확인 포함)
+// 메인 스레드를 막지 않도록 worker에서 한 번만 초기화하고 클라우드/로컬 저장소가 같은 관리자를 공유
+// 초기화 전에 호출된 저장소 API는 초기화가 끝날 때까지 대기 (whenReady)
+public class RepositoryStartup {
+    // 인증서 관리자 생성 (worker에서 호출, 블로킹)
+    public interface ManagerFactory {
+        KSCertificateManagerExt create(@NonNull Context appContext,
+                                       @NonNull Client.Delegate clientDelegate,
+                                       @NonNull KSCertificateManagerExt.Delegate cmpDelegate) throws Exception;
+    }
+
+    private static final ManagerFactory DEFAULT_FACTORY = (appContext, clientDelegate, cmpDelegate) ->
+            new KSCertificateManagerExt()
+                    .init(appContext)
+                    .setClientDelegate(clientDelegate)
+                    .setCMPDelegate(cmpDelegate);
+
+    private RepositoryFuture<Void> ready = new RepositoryFuture<>();
+    private boolean started;
+    private KSCertificateManagerExt certMgr;
+    private ManagerFactory managerFactory = DEFAULT_FACTORY;
+
+    // 초기화 시작 (Activity 재생성 등으로 다시 호출되면 delegate만 교체)
+    // InvalidLicenseException: 라이선스 오류
+    public synchronized RepositoryFuture<Void> start(@NonNull Context context,
+                                                     @NonNull Client.Delegate clientDelegate,
+                                                     @NonNull KSCertificateManagerExt.Delegate cmpDelegate) {
+        CloudRepository.getInstance().attach(context);
+        LocalRepository.getInstance().attach(context);
+
+        if (started) {
+            return whenReady().thenApply(ignored -> {
+                certMgr.setClientDelegate(clientDelegate)
+                        .setCMPDelegate(cmpDelegate);
+                return null;
+            });
+        }
+        started = true;
+
+        // 관리자는 Activity보다 오래 유지되므로 Application context로 초기화 (Activity 재생성 시 누수 방지)
+        Context appContext = context.getApplicationContext();
+        StartupTracer.getInstance().begin(StartupTracer.REPOSITORY_INIT);
+        ManagerFactory factory = managerFactory;
+        RepositoryFuture<Void> ready = this.ready;
+        AppExecutors.getInstance().submit("initCertificateManager", () ->
+                factory.create(appContext, clientDelegate, cmpDelegate))
+                .whenComplete(mgr -> {
+                    certMgr = mgr;
+                    CloudRepository.getInstance().setCertMgr(mgr);
+                    LocalRepository.getInstance().setCertMgr(mgr);
+                    StartupTracer.getInstance().end(StartupTracer.REPOSITORY_INIT);
+                    ready.complete(null);
+                }, e -> {
+                    StartupTracer.getInstance().end(StartupTracer.REPOSITORY_INIT);
+                    ready.fail(e);
+                });
+
+        return whenReady();
+    }
+
+    // 초기화 완료 시 완료 (호출자별 future를 반환하므로 취소해도 초기화에는 영향 없음)
+    public synchronized RepositoryFuture<Void> whenReady() {
+        RepositoryFuture<Void> future = new RepositoryFuture<>();
+        ready.whenComplete(future::complete, future::fail);
+        return future;
+    }
+
+    // 시작 벤치마크: 실제 SDK 대신 초기화 지연만 재현하는 관리자 사용
+    @VisibleForTesting
+    public synchronized void setManagerFactory(@NonNull ManagerFactory factory) {
+        managerFactory = factory;
+    }
+
+    // 콜드 스타트를 반복 측정할 수 있도록 초기화 전 상태로 되돌림
+    @VisibleForTesting
+    public synchronized void reset() {
+        ready.cancel();
+        ready = new RepositoryFuture<>();
+        started = false;
+        certMgr = null;
+    }
+
+    public static RepositoryStartup getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final RepositoryStartup INSTANCE = new RepositoryStartup();
+        private Singleton() {}
+    }
+}
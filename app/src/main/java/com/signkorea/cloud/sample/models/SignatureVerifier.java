@@ -0,0 +1,298 @@
+package com.signkorea.cloud.sample.models;
+
+import androidx.annotation.NonNull;
+
+import com.signkorea.cloud.sample.utils.AppExecutors;
+import com.signkorea.cloud.sample.utils.DerReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 서명 검증 (단말 내에서 처리, 서버 호출 없음)
+// - CMS SignedData (koscomCMSSign, KSSign.KOSCOM): 서명자 인증서 일련번호, 원문, messageDigest 속성, 서명값 확인
+// - 그 외 (축약서명): 원문에 대한 서명값(SHA256withRSA)으로 간주하여 확인
+// 여러 건은 fork/join 풀에서 나누어 병렬로 검증하며, MessageDigest/Signature 인스턴스는 스레드별로 재사용
+public class SignatureVerifier {
+    private static final String OID_SIGNED_DATA = "1.2.840.113549.1.7.2";
+    private static final String OID_MESSAGE_DIGEST = "1.2.840.113549.1.9.4";
+    private static final String OID_RSASSA_PSS = "1.2.840.113549.1.1.10";
+    private static final String BRIEF_SIGNATURE_DIGEST = "SHA-256";
+
+    // 하나의 작업으로 검증할 최대 건수 (초과 시 분할)
+    private static final int LEAF_SIZE = 16;
+
+    private static final Map<String, String> DIGEST_NAMES = new HashMap<>();
+    static {
+        DIGEST_NAMES.put("1.3.14.3.2.26", "SHA-1");
+        DIGEST_NAMES.put("2.16.840.1.101.3.4.2.1", "SHA-256");
+        DIGEST_NAMES.put("2.16.840.1.101.3.4.2.2", "SHA-384");
+        DIGEST_NAMES.put("2.16.840.1.101.3.4.2.3", "SHA-512");
+    }
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    // 스레드별 재사용 인스턴스
+    private static final ThreadLocal<Map<String, MessageDigest>> digests = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Signature>> signatures = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<CertificateFactory> certificateFactories = ThreadLocal.withInitial(() -> {
+        try {
+            return CertificateFactory.getInstance("X.509");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    // 검증 요청 (서명값, 서명자 인증서(DER, KSCertificateExt.getCertificate), 원문)
+    public static class Request {
+        final byte[] signature;
+        final byte[] certificate;
+        final byte[] plain;
+
+        public Request(@NonNull byte[] signature, @NonNull byte[] certificate, @NonNull byte[] plain) {
+            this.signature = signature;
+            this.certificate = certificate;
+            this.plain = plain;
+        }
+    }
+
+    public RepositoryFuture<VerificationResult> verifyAsync(@NonNull byte[] signature,
+                                                            @NonNull byte[] certificate,
+                                                            @NonNull byte[] plain) {
+        return verifyAllAsync(Collections.singletonList(new Request(signature, certificate, plain)))
+                .thenApply(results -> results.get(0));
+    }
+
+    // 요청 순서대로 검증 결과 전달 (메인 스레드), 취소 시 남은 검증 중단
+    public RepositoryFuture<List<VerificationResult>> verifyAllAsync(@NonNull List<Request> requests) {
+        RepositoryFuture<List<VerificationResult>> future = new RepositoryFuture<>();
+        List<Request> copy = new ArrayList<>(requests);
+        VerificationResult[] results = new VerificationResult[copy.size()];
+        AtomicBoolean cancelled = new AtomicBoolean();
+        future.onCancel(() -> cancelled.set(true));
+
+        pool.execute(() -> {
+            Map<ByteBuffer, X509Certificate> certificates = new ConcurrentHashMap<>();
+            try {
+                new VerifyTask(copy, results, certificates, cancelled, 0, copy.size()).invoke();
+                AppExecutors.getInstance().mainThread().execute(() -> future.complete(Arrays.asList(results)));
+            } catch (RuntimeException e) {
+                AppExecutors.getInstance().mainThread().execute(() -> future.fail(e));
+            }
+        });
+        return future;
+    }
+
+    private static class VerifyTask extends RecursiveAction {
+        private final List<Request> requests;
+        private final VerificationResult[] results;
+        private final Map<ByteBuffer, X509Certificate> certificates;
+        private final AtomicBoolean cancelled;
+        private final int from;
+        private final int to;
+
+        VerifyTask(List<Request> requests, VerificationResult[] results,
+                   Map<ByteBuffer, X509Certificate> certificates, AtomicBoolean cancelled,
+                   int from, int to) {
+            this.requests = requests;
+            this.results = results;
+            this.certificates = certificates;
+            this.cancelled = cancelled;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new VerifyTask(requests, results, certificates, cancelled, from, middle),
+                        new VerifyTask(requests, results, certificates, cancelled, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to && !cancelled.get(); i++) {
+                Request request = requests.get(i);
+                try {
+                    X509Certificate certificate = certificates.computeIfAbsent(
+                            ByteBuffer.wrap(request.certificate), ignored -> parseCertificate(request.certificate));
+                    results[i] = verify(request.signature, certificate, request.plain);
+                } catch (Exception e) {
+                    results[i] = VerificationResult.invalid(e.getClass().getSimpleName() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    static VerificationResult verify(byte[] signature, X509Certificate certificate, byte[] plain)
+            throws IOException, GeneralSecurityException {
+        if (!isSignedData(signature))
+            return verifyBrief(signature, certificate, plain);
+
+        DerReader contentInfo = new DerReader(signature).next(DerReader.SEQUENCE).children();
+        contentInfo.next(DerReader.OID);
+        DerReader signedData = contentInfo.next(0xa0).children().next(DerReader.SEQUENCE).children();
+        signedData.next(DerReader.INTEGER);        // version
+        signedData.next(DerReader.SET);            // digestAlgorithms
+
+        DerReader encapContentInfo = signedData.next(DerReader.SEQUENCE).children();
+        encapContentInfo.next(DerReader.OID);
+        byte[] content = encapContentInfo.hasNext()
+                ? octets(encapContentInfo.next(0xa0).children().next())
+                : null;         // 분리 서명
+
+        while (signedData.peekTag() != DerReader.SET)   // certificates, crls
+            signedData.next();
+        DerReader signerInfos = signedData.next(DerReader.SET).children();
+        if (!signerInfos.hasNext())
+            return VerificationResult.invalid("서명자 정보가 없습니다.");
+
+        DerReader signerInfo = signerInfos.next(DerReader.SEQUENCE).children();
+        signerInfo.next(DerReader.INTEGER);        // version
+        DerReader.Element sid = signerInfo.next();
+        if (sid.tag == DerReader.SEQUENCE) {       // issuerAndSerialNumber
+            DerReader issuerAndSerial = sid.children();
+            issuerAndSerial.next(DerReader.SEQUENCE);
+            if (!issuerAndSerial.next().integer().equals(certificate.getSerialNumber()))
+                return VerificationResult.invalid("서명자 인증서가 일치하지 않습니다.");
+        }
+
+        String digestName = digestName(signerInfo.next(DerReader.SEQUENCE).children().next(DerReader.OID).oid());
+        DerReader.Element signedAttrs = signerInfo.peekTag() == 0xa0 ? signerInfo.next() : null;
+        String signatureOid = signerInfo.next(DerReader.SEQUENCE).children().next(DerReader.OID).oid();
+        byte[] signatureValue = signerInfo.next(DerReader.OCTET_STRING).content();
+
+        if (OID_RSASSA_PSS.equals(signatureOid))
+            return VerificationResult.invalid("지원하지 않는 서명 알고리즘입니다. (RSASSA-PSS)");
+        if (content != null && !Arrays.equals(content, plain))
+            return VerificationResult.invalid("서명 원문이 일치하지 않습니다.");
+
+        byte[] signed = plain;
+        if (signedAttrs != null) {
+            byte[] messageDigest = messageDigest(signedAttrs);
+            if (messageDigest == null)
+                return VerificationResult.invalid("messageDigest 속성이 없습니다.");
+            if (!MessageDigest.isEqual(messageDigest, digest(digestName).digest(plain)))
+                return VerificationResult.invalid("원문의 해시값이 일치하지 않습니다.");
+
+            // 서명 대상은 SET OF 태그로 인코딩한 signedAttrs
+            signed = signedAttrs.encoded();
+            signed[0] = DerReader.SET;
+        }
+
+        return verifySignature(digestName, certificate.getPublicKey(), signed, signatureValue)
+                ? VerificationResult.valid()
+                : VerificationResult.invalid("서명값이 올바르지 않습니다.");
+    }
+
+    private static VerificationResult verifyBrief(byte[] signature, X509Certificate certificate, byte[] plain)
+            throws GeneralSecurityException {
+        return verifySignature(BRIEF_SIGNATURE_DIGEST, certificate.getPublicKey(), plain, signature)
+                ? VerificationResult.valid()
+                : VerificationResult.invalid("서명값이 올바르지 않습니다.");
+    }
+
+    private static boolean isSignedData(byte[] signature) {
+        try {
+            DerReader contentInfo = new DerReader(signature).next(DerReader.SEQUENCE).children();
+            return OID_SIGNED_DATA.equals(contentInfo.next(DerReader.OID).oid());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static byte[] messageDigest(DerReader.Element signedAttrs) throws IOException {
+        DerReader attributes = signedAttrs.children();
+        while (attributes.hasNext()) {
+            DerReader attribute = attributes.next(DerReader.SEQUENCE).children();
+            if (OID_MESSAGE_DIGEST.equals(attribute.next(DerReader.OID).oid()))
+                return attribute.next(DerReader.SET).children().next(DerReader.OCTET_STRING).content();
+        }
+        return null;
+    }
+
+    // OCTET STRING (BER 구성 방식 포함)
+    private static byte[] octets(DerReader.Element element) throws IOException {
+        if (element.tag == DerReader.OCTET_STRING)
+            return element.content();
+        if (element.tag != DerReader.OCTET_STRING_CONSTRUCTED)
+            throw new IOException("DER: OCTET STRING이 아닙니다.");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(element.length);
+        DerReader parts = element.children();
+        while (parts.hasNext()) {
+            byte[] part = octets(parts.next());
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digestName(String oid) throws GeneralSecurityException {
+        String name = DIGEST_NAMES.get(oid);
+        if (name == null)
+            throw new GeneralSecurityException("지원하지 않는 해시 알고리즘입니다. (" + oid + ")");
+        return name;
+    }
+
+    private static MessageDigest digest(String name) throws GeneralSecurityException {
+        Map<String, MessageDigest> cache = digests.get();
+        MessageDigest digest = cache.get(name);
+        if (digest == null) {
+            digest = MessageDigest.getInstance(name);
+            cache.put(name, digest);
+        }
+        digest.reset();
+        return digest;
+    }
+
+    // 공개키 알고리즘과 해시 알고리즘으로 서명 알고리즘 결정 (SHA256withRSA, SHA256withECDSA 등)
+    private static boolean verifySignature(String digestName, PublicKey key, byte[] data, byte[] signatureValue)
+            throws GeneralSecurityException {
+        String algorithm = digestName.replace("-", "") + "with" + ("EC".equals(key.getAlgorithm()) ? "ECDSA" : key.getAlgorithm());
+        Map<String, Signature> cache = signatures.get();
+        Signature verifier = cache.get(algorithm);
+        if (verifier == null) {
+            verifier = Signature.getInstance(algorithm);
+            cache.put(algorithm, verifier);
+        }
+
+        verifier.initVerify(key);
+        verifier.update(data);
+        return verifier.verify(signatureValue);
+    }
+
+    private static X509Certificate parseCertificate(byte[] certificate) {
+        try {
+            return (X509Certificate) certificateFactories.get()
+                    .generateCertificate(new ByteArrayInputStream(certificate));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("서명자 인증서를 읽을 수 없습니다.", e);
+        }
+    }
+
+    public static SignatureVerifier getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final SignatureVerifier INSTANCE = new SignatureVerifier();
+        private Singleton() {}
+    }
+}
@@ -0,0 +1,41 @@
+package com.signkorea.cloud.sample.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+// 서명 검증 결과 (실패한 경우 사유)
+public class VerificationResult {
+    private static final VerificationResult VALID = new VerificationResult(true, null);
+
+    private final boolean valid;
+    @Nullable
+    private final String reason;
+
+    private VerificationResult(boolean valid, @Nullable String reason) {
+        this.valid = valid;
+        this.reason = reason;
+    }
+
+    static VerificationResult valid() {
+        return VALID;
+    }
+
+    static VerificationResult invalid(@NonNull String reason) {
+        return new VerificationResult(false, reason);
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    @Nullable
+    public String getReason() {
+        return reason;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return valid ? "valid" : "invalid: " + reason;
+    }
+}
@@ -0,0 +1,152 @@
+package com.signkorea.cloud.sample.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.signkorea.cloud.sample.models.RepositoryFuture;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// 앱 공용 스레드 풀
+// - worker: 블로킹 SDK 호출 (updateCloud, updateLocal, saveCertLocal, KSSign.sign 등)
+// - diskIO: 파일 읽기/쓰기 (순차 실행)
+// - mainThread: 결과 전달
+// worker 대기열이 가득 차면 새 작업은 RejectedExecutionException으로 실패 처리
+public class AppExecutors {
+    private static final String TAG = AppExecutors.class.getSimpleName();
+
+    private static final int WORKER_THREADS = 2;
+    private static final int WORKER_QUEUE_DEPTH = 8;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final ThreadPoolExecutor worker;
+    private final ThreadPoolExecutor diskIO;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Executor mainThread = mainHandler::post;
+
+    // 결과를 콜백으로 전달하는 블로킹 SDK 호출
+    public interface BlockingCall<T> {
+        void call(@NonNull Consumer<T> completion) throws Exception;
+    }
+
+    private AppExecutors() {
+        worker = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(WORKER_QUEUE_DEPTH),
+                new NamedThreadFactory("sk-worker"));
+        worker.allowCoreThreadTimeOut(true);
+
+        diskIO = new ThreadPoolExecutor(1, 1,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("sk-disk-io"));
+        diskIO.allowCoreThreadTimeOut(true);
+    }
+
+    public Executor worker() {
+        return worker;
+    }
+
+    public Executor diskIO() {
+        return diskIO;
+    }
+
+    public Executor mainThread() {
+        return mainThread;
+    }
+
+    // worker에서 task 실행 후 결과를 메인 스레드로 전달
+    public <T> RepositoryFuture<T> submit(@NonNull String name, @NonNull Callable<T> task) {
+        return submitCallback(name, completion -> completion.accept(task.call()));
+    }
+
+    // onFinished: 취소 여부와 관계없이 task가 실제로 끝난 후 메인 스레드에서 실행
+    // (시작 전에 취소되거나 대기열 초과로 거절된 경우 즉시) task가 사용하는 PIN 등의 해제용
+    public <T> RepositoryFuture<T> submit(@NonNull String name, @NonNull Callable<T> task, @NonNull Runnable onFinished) {
+        return submitCallback(name, completion -> completion.accept(task.call()), onFinished);
+    }
+
+    // worker에서 콜백 방식의 블로킹 호출 실행 후 결과를 메인 스레드로 전달
+    public <T> RepositoryFuture<T> submitCallback(@NonNull String name, @NonNull BlockingCall<T> call) {
+        return submitCallback(name, call, () -> {});
+    }
+
+    public <T> RepositoryFuture<T> submitCallback(@NonNull String name,
+                                                  @NonNull BlockingCall<T> call,
+                                                  @NonNull Runnable onFinished) {
+        RepositoryFuture<T> future = new RepositoryFuture<>();
+
+        AtomicBoolean started = new AtomicBoolean();
+        Runnable task = () -> {
+            if (!started.compareAndSet(false, true))    // 대기 중 취소됨 (onFinished는 취소 시 실행)
+                return;
+
+            try {
+                if (future.isDone())    // 대기 중 취소됨
+                    return;
+
+                call.call(result -> mainThread.execute(() -> future.complete(result)));
+            } catch (Exception e) {
+                mainThread.execute(() -> future.fail(e));
+            } finally {
+                mainThread.execute(onFinished);
+            }
+        };
+
+        try {
+            Future<?> pending = worker.submit(task);
+            // 아직 실행되지 않은 작업은 대기열에서 제외 (실행 중인 SDK 호출은 중단하지 않음)
+            future.onCancel(() -> {
+                pending.cancel(false);
+                worker.purge();
+                if (started.compareAndSet(false, true))     // 시작 전이면 실행되지 않으므로 여기서 완료 처리
+                    mainThread.execute(onFinished);
+            });
+        } catch (RejectedExecutionException e) {
+            Log.w(TAG, name + ": 작업 대기열 초과 (" + worker.getQueue().size() + ")");
+            mainThread.execute(() -> future.fail(new RejectedExecutionException("처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요.", e)));
+            mainThread.execute(onFinished);
+        }
+
+        return future;
+    }
+
+    public static AppExecutors getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final AppExecutors INSTANCE = new AppExecutors();
+        private Singleton() {}
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        }
+    }
+}
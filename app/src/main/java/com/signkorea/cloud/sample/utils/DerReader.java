@@ -0,0 +1,142 @@
+package com.signkorea.cloud.sample.utils;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+// ASN.1 DER 최소 파서 (서명 검증에 필요한 만큼만 지원)
+// 원본 배열을 복사하지 않고 위치만 기록하며, 부정 길이(BER indefinite length)는 지원하지 않음
+public class DerReader {
+    public static final int INTEGER = 0x02;
+    public static final int OCTET_STRING = 0x04;
+    public static final int OCTET_STRING_CONSTRUCTED = 0x24;
+    public static final int OID = 0x06;
+    public static final int SEQUENCE = 0x30;
+    public static final int SET = 0x31;
+
+    private final byte[] data;
+    private final int end;
+    private int position;
+
+    public DerReader(@NonNull byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    private DerReader(byte[] data, int offset, int end) {
+        this.data = data;
+        this.position = offset;
+        this.end = end;
+    }
+
+    public boolean hasNext() {
+        return position < end;
+    }
+
+    public int peekTag() throws IOException {
+        if (!hasNext())
+            throw new IOException("DER: 더 이상 읽을 값이 없습니다.");
+        return data[position] & 0xff;
+    }
+
+    public Element next() throws IOException {
+        int start = position;
+        int tag = peekTag();
+        position++;
+
+        if ((tag & 0x1f) == 0x1f)
+            throw new IOException("DER: 확장 태그는 지원하지 않습니다.");
+        if (position >= end)
+            throw new IOException("DER: 길이가 없습니다.");
+
+        int length = data[position++] & 0xff;
+        if (length == 0x80)
+            throw new IOException("DER: 부정 길이는 지원하지 않습니다.");
+        if (length > 0x80) {
+            int count = length & 0x7f;
+            if (count > 4 || position + count > end)
+                throw new IOException("DER: 잘못된 길이입니다.");
+            length = 0;
+            for (int i = 0; i < count; i++)
+                length = (length << 8) | (data[position++] & 0xff);
+            if (length < 0)
+                throw new IOException("DER: 잘못된 길이입니다.");
+        }
+
+        if (length > end - position)
+            throw new IOException("DER: 값의 길이가 데이터보다 깁니다.");
+
+        Element element = new Element(data, tag, start, position, length);
+        position += length;
+        return element;
+    }
+
+    // 다음 값을 읽고 태그 확인
+    public Element next(int expectedTag) throws IOException {
+        Element element = next();
+        if (element.tag != expectedTag)
+            throw new IOException(String.format("DER: 0x%02x 태그가 필요하지만 0x%02x 입니다.", expectedTag, element.tag));
+        return element;
+    }
+
+    public static class Element {
+        private final byte[] data;
+        public final int tag;
+        private final int start;
+        private final int offset;
+        public final int length;
+
+        Element(byte[] data, int tag, int start, int offset, int length) {
+            this.data = data;
+            this.tag = tag;
+            this.start = start;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        // 구성(constructed) 값의 하위 값 읽기
+        public DerReader children() {
+            return new DerReader(data, offset, offset + length);
+        }
+
+        public byte[] content() {
+            return Arrays.copyOfRange(data, offset, offset + length);
+        }
+
+        // 태그와 길이를 포함한 전체 인코딩
+        public byte[] encoded() {
+            return Arrays.copyOfRange(data, start, offset + length);
+        }
+
+        public BigInteger integer() throws IOException {
+            if (tag != INTEGER)
+                throw new IOException("DER: INTEGER가 아닙니다.");
+            return new BigInteger(content());
+        }
+
+        public String oid() throws IOException {
+            if (tag != OID || length == 0)
+                throw new IOException("DER: OID가 아닙니다.");
+
+            StringBuilder sb = new StringBuilder();
+            long value = 0;
+            boolean first = true;
+            for (int i = offset; i < offset + length; i++) {
+                value = (value << 7) | (data[i] & 0x7f);
+                if ((data[i] & 0x80) != 0)
+                    continue;
+
+                if (first) {
+                    int root = (int) Math.min(value / 40, 2);
+                    sb.append(root).append('.').append(value - root * 40);
+                    first = false;
+                } else {
+                    sb.append('.').append(value);
+                }
+                value = 0;
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.signkorea.cloud.sample.utils;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// 문서 전체를 메모리에 올리지 않고 일정 크기씩 읽어 해시 계산
+// 문서 크기와 관계없이 사용하는 메모리는 읽기 버퍼(또는 매핑 구간) 크기로 일정
+public class DocumentDigest {
+    public static final String ALGORITHM = "SHA-256";
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final long MAP_WINDOW_SIZE = 8 * 1024 * 1024;
+
+    private DocumentDigest() {}
+
+    public static byte[] digest(@NonNull InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int read;
+        while ((read = in.read(chunk)) != -1)
+            digest.update(chunk, 0, read);
+        return digest.digest();
+    }
+
+    // 파일을 구간별로 메모리 매핑하여 해시 계산 (채널의 현재 위치와 관계없이 처음부터 끝까지)
+    public static byte[] digest(@NonNull FileChannel channel) throws IOException {
+        MessageDigest digest = newDigest();
+        long size = channel.size();
+        for (long position = 0; position < size; position += MAP_WINDOW_SIZE) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                    position, Math.min(MAP_WINDOW_SIZE, size - position));
+            digest.update(window);
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
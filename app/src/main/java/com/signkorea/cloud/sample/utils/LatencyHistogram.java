@@ -0,0 +1,100 @@
+package com.signkorea.cloud.sample.utils;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+// 로그 구간 지연 시간 히스토그램 (μs 단위, 고정 크기)
+// 2의 거듭제곱 구간을 16개의 하위 구간으로 나누어 기록하므로 상대 오차는 약 6% 이내
+// 기록 횟수와 관계없이 메모리 사용량이 일정하여 앱 실행 중 계속 누적 가능
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;                 // 2^40μs (약 12일) 이상은 마지막 구간에 기록
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public synchronized void record(long micros) {
+        long value = Math.max(0, micros);
+        counts[indexOf(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    public synchronized double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    // percentile (0~100)에 해당하는 지연 시간 (μs, 해당 구간의 상한값)
+    public synchronized long getPercentile(double percentile) {
+        if (count == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(upperBoundOf(i), max);
+        }
+        return max;
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    // 건수, 평균, p50/p95/p99, 최대 (ms)
+    public synchronized String summary() {
+        return String.format(Locale.US, "n=%d\tmean=%.1f\tp50=%.1f\tp95=%.1f\tp99=%.1f\tmax=%.1f",
+                count,
+                getMean() / 1000.0,
+                getPercentile(50) / 1000.0,
+                getPercentile(95) / 1000.0,
+                getPercentile(99) / 1000.0,
+                max / 1000.0);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT)
+            return BUCKETS - 1;
+
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long sub = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
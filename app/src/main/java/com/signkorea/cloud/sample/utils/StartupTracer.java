@@ -0,0 +1,92 @@
+package com.signkorea.cloud.sample.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// 콜드 스타트 구간별 소요 시간 측정 (System.nanoTime 기준 단조 증가 시각)
+// 구간마다 처음 한 번만 기록하므로 화면 재진입 등으로 다시 호출되어도 콜드 스타트 값이 유지됨
+public class StartupTracer {
+    public static final String PROCESS_START = "Application.processStart";  // 앱 프로세스 시작 ~ 첫 화면 구성 완료
+    public static final String ON_CREATE = "MainActivity.onCreate";
+    public static final String NAV_GRAPH = "MainActivity.navGraph";
+    public static final String REPOSITORY_INIT = "RepositoryStartup.init";
+    public static final String FIRST_LIST_LOAD = "firstListLoad";       // 첫 목록 로딩 요청 ~ 완료 (홈 화면 체류 시간 제외)
+
+    private static final long NOT_SET = -1;
+
+    private final LongSupplier clock;
+    private long origin;
+    private final Map<String, long[]> phases = new LinkedHashMap<>();     // 구간 이름 → { 시작, 종료 }
+
+    public StartupTracer(LongSupplier clock) {
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+    }
+
+    // 측정 기록을 지우고 지금을 기준 시각으로 다시 시작 (시작 벤치마크 반복 측정용)
+    public synchronized void reset() {
+        phases.clear();
+        origin = clock.getAsLong();
+    }
+
+    public synchronized void begin(String phase) {
+        phases.putIfAbsent(phase, new long[] { clock.getAsLong(), NOT_SET });
+    }
+
+    // 이번 호출로 구간이 종료된 경우 true
+    public synchronized boolean end(String phase) {
+        long[] times = phases.get(phase);
+        if (times == null || times[1] != NOT_SET)
+            return false;
+
+        times[1] = clock.getAsLong();
+        return true;
+    }
+
+    public synchronized boolean isFinished(String phase) {
+        long[] times = phases.get(phase);
+        return times != null && times[1] != NOT_SET;
+    }
+
+    // 종료된 구간의 소요 시간 (ns), 종료되지 않은 구간은 -1
+    public synchronized long getDurationNanos(String phase) {
+        long[] times = phases.get(phase);
+        if (times == null || times[1] == NOT_SET)
+            return NOT_SET;
+        return times[1] - times[0];
+    }
+
+    public synchronized Map<String, Long> getDurationsNanos() {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        for (String phase : phases.keySet())
+            durations.put(phase, getDurationNanos(phase));
+        return Collections.unmodifiableMap(durations);
+    }
+
+    // 구간별 시작 시각(측정 시작 기준)과 소요 시간 (ms)
+    public synchronized String report() {
+        StringBuilder sb = new StringBuilder("phase\tstart(ms)\tduration(ms)\n");
+        for (Map.Entry<String, long[]> entry : phases.entrySet()) {
+            long[] times = entry.getValue();
+            sb.append(entry.getKey())
+                    .append('\t')
+                    .append(String.format(Locale.US, "%.1f", (times[0] - origin) / 1e6))
+                    .append('\t')
+                    .append(times[1] == NOT_SET ? "-" : String.format(Locale.US, "%.1f", (times[1] - times[0]) / 1e6))
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    public static StartupTracer getInstance() {
+        return Singleton.INSTANCE;
+    }
+
+    private static class Singleton {
+        private static final StartupTracer INSTANCE = new StartupTracer(System::nanoTime);
+        private Singleton() {}
+    }
+}
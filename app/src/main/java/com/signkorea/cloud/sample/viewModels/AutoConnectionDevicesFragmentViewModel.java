@@ -13,16 +13,22 @@ import java.util.function.Consumer;
 public class AutoConnectionDevicesFragmentViewModel extends ViewModel {
     private CloudRepository repo = CloudRepository.getInstance();
     private List<AutoConnectDevice> devices = null;
+    private String currentDeviceId;
 
     @SuppressWarnings("UnusedReturnValue")
     public AutoConnectionDevicesFragmentViewModel loadData(
         Runnable completion,
         Consumer<Exception> onError)
     {
-        CloudRepository.getInstance().getAutoConnectDevices(devices -> {
-            this.devices = new ArrayList<>(devices);
-            completion.run();
-        }, onError);
+        repo.getCurrentDeviceIdAsync()
+                .<List<AutoConnectDevice>>thenCompose(deviceId -> {
+                    currentDeviceId = deviceId;
+                    return repo.getAutoConnectDevicesAsync();
+                })
+                .whenComplete(devices -> {
+                    this.devices = new ArrayList<>(devices);
+                    completion.run();
+                }, onError);
 
         return this;
     }
@@ -43,7 +49,7 @@ public class AutoConnectionDevicesFragmentViewModel extends ViewModel {
     }
 
     public boolean isCurrentDevice(int index) {
-        return Objects.equals(devices.get(index).getDeviceId(), repo.getCertMgr().client.getCurrentDeviceId());
+        return Objects.equals(devices.get(index).getDeviceId(), currentDeviceId);
     }
 
     // region Getter
@@ -1,5 +1,7 @@
 package com.signkorea.cloud.sample.viewModels;
 
+import android.util.Log;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.FragmentActivity;
@@ -7,16 +9,31 @@ import androidx.lifecycle.ViewModel;
 
 import com.signkorea.cloud.Bio;
 import com.signkorea.cloud.KSCertificateExt;
+import com.signkorea.cloud.sample.enums.CertificateSource;
 import com.signkorea.cloud.sample.enums.DataSource;
+import com.signkorea.cloud.sample.models.BatchResult;
+import com.signkorea.cloud.sample.models.CatalogEntry;
+import com.signkorea.cloud.sample.models.CertificateCatalog;
+import com.signkorea.cloud.sample.models.CertificateDelta;
+import com.signkorea.cloud.sample.models.CertificateMetadata;
 import com.signkorea.cloud.sample.models.CloudRepository;
 import com.signkorea.cloud.sample.models.LocalRepository;
 import com.signkorea.cloud.sample.models.Repository;
+import com.signkorea.cloud.sample.models.RepositoryFuture;
+import com.signkorea.cloud.sample.utils.StartupTracer;
 import com.signkorea.securedata.ProtectedData;
 import com.signkorea.securedata.SecureData;
 import com.yettiesoft.cloud.models.ExportedCertificate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -24,29 +41,174 @@ import java.util.stream.Collectors;
 
 public class CertificateListFragmentViewModel extends ViewModel {
 
+    // 일괄 보관 시 동시에 진행하는 보관 요청 수
+    private static final int REGISTER_CONCURRENCY = 3;
+
     private final CloudRepository cloudRepo = CloudRepository.getInstance();
     private final LocalRepository localRepo = LocalRepository.getInstance();
     private DataSource dataSource;
+    private Predicate<CertificateMetadata> filter;
+
+    private final List<RepositoryFuture<?>> pending = new ArrayList<>();
 
     private List<KSCertificateExt> certificates;
+    // 화면(어댑터)에 표시 중인 목록
+    private List<CertificateMetadata> items = Collections.emptyList();
+    // 일괄 처리할 인증서 (목록이 갱신되어도 유지되도록 위치 대신 인증서 키로 보관)
+    private final Map<String, KSCertificateExt> selected = new LinkedHashMap<>();
+    // 로컬/클라우드 통합 목록 (다른 저장소에도 있는 인증서 표시용)
+    private Map<KSCertificateExt, CatalogEntry> catalogByCertificate = Collections.emptyMap();
+    private Map<String, CatalogEntry> catalogByFingerprint = Collections.emptyMap();
 
     public List<KSCertificateExt> getCertificates() { return certificates; }
 
+    // 저장소에 로딩된 목록이 없는 경우(콜드 스타트) 저장된 스냅샷으로 목록을 먼저 표시
+    // 스냅샷은 앱 시작 시 diskIO에서 미리 읽어 두므로 대부분 바로 전달됨
+    // onLoaded: loadData와 같은 필터를 적용한 스냅샷 항목이 있는 경우 호출
+    public void loadSnapshot(DataSource dataSource,
+                             @Nullable Predicate<CertificateMetadata> filter,
+                             @NonNull Runnable onLoaded) {
+        Repository repo = getRepository(dataSource);
+        if(certificates != null || repo.getCertificates() != null)
+            return;
+
+        track(repo.getSnapshotAsync()).whenComplete(snapshot -> {
+            // 스냅샷을 읽는 사이 실제 목록이 로딩된 경우 무시
+            if(certificates != null || repo.getCertificates() != null)
+                return;
+
+            items = filter == null ? snapshot : snapshot.stream().filter(filter).collect(Collectors.toList());
+            if(!items.isEmpty())
+                onLoaded.run();
+        }, ignored -> {});
+    }
+
+    // 실제 인증서 목록 로딩 전 스냅샷을 표시 중인지 여부 (스냅샷 항목은 선택 불가)
+    public boolean isSnapshot() {
+        return certificates == null && !items.isEmpty();
+    }
+
+    public int getItemCount() {
+        return items.size();
+    }
+
+    public CertificateMetadata getItem(int position) {
+        return items.get(position);
+    }
+
     public void loadData(DataSource dataSource,
-                         Predicate<KSCertificateExt> filter,
-                         @NonNull Runnable completion,
+                         @Nullable Predicate<CertificateMetadata> filter,
+                         @NonNull Consumer<CertificateDelta> completion,
                          @NonNull Consumer<Exception> onError) {
         this.dataSource = dataSource;
-        Repository repo = (dataSource == DataSource.remote) ? cloudRepo : localRepo;
+        this.filter = filter;
+        Repository repo = getRepository(dataSource);
+
+        // 콜드 스타트 측정: 첫 인증서 목록 로딩 요청부터 완료까지 (재진입 시에는 기록되지 않음)
+        // 목록 화면 진입 전 홈 화면에 머문 시간은 포함하지 않음
+        StartupTracer tracer = StartupTracer.getInstance();
+        tracer.begin(StartupTracer.FIRST_LIST_LOAD);
+
+        repo.loadCertificates(() -> {
+            if (tracer.end(StartupTracer.FIRST_LIST_LOAD))
+                Log.i(StartupTracer.class.getSimpleName(), "콜드 스타트 측정 결과\n" + tracer.report());
+            completion.accept(applyCertificates(null));
+        }, onError);
+    }
 
-        Runnable innerComplete = () -> {
-            certificates = repo.getCertificates();
-            if(certificates != null && filter != null)
-                certificates = certificates.stream().filter(filter).collect(Collectors.toList());
-            completion.run();
-        };
+    // 저장소의 현재 인증서 목록에 필터를 적용하여 화면 목록에 반영하고, 화면에 적용할 변경 내역을 반환
+    // published: 저장소에서 통지한 변경 내역 (화면 목록이 그 기준 목록과 같으면 그대로 사용)
+    @NonNull
+    public CertificateDelta applyCertificates(@Nullable CertificateDelta published) {
+        if(dataSource == null)
+            return CertificateDelta.between(items, items);
+
+        Repository repo = getRepository(dataSource);
+        List<KSCertificateExt> loaded = repo.getCertificates();
+        List<CertificateMetadata> next;
+        if(filter == null) {
+            certificates = loaded;
+            next = repo.getSnapshot();
+        } else if(loaded == null) {
+            certificates = null;
+            next = repo.getSnapshot().stream().filter(filter).collect(Collectors.toList());
+        } else {
+            certificates = new ArrayList<>();
+            next = new ArrayList<>();
+            for(KSCertificateExt cert : loaded) {
+                CertificateMetadata metadata = CertificateMetadata.of(cert);
+                if(filter.test(metadata)) {
+                    certificates.add(cert);
+                    next.add(metadata);
+                }
+            }
+        }
+
+        CertificateDelta delta;
+        if(published != null && published.getPrevious() == items && published.getCurrent() == next)
+            delta = published;
+        else
+            delta = CertificateDelta.between(items, next);
 
-        repo.loadCertificates(innerComplete, onError);
+        items = next;
+        return delta;
+    }
+
+    // 로컬/클라우드 인증서를 동시에 조회하여 통합 목록 구성, 각 저장소 결과가 도착할 때마다 onUpdate 호출
+    // onSourceError: 저장소 조회 실패 시 호출 (나머지 저장소 결과로 통합 목록 표시)
+    public void loadCatalog(@NonNull Runnable onUpdate, @NonNull BiConsumer<DataSource, Exception> onSourceError) {
+        track(CertificateCatalog.getInstance().load(entries -> {
+            Map<KSCertificateExt, CatalogEntry> byCertificate = new IdentityHashMap<>();
+            Map<String, CatalogEntry> byFingerprint = new HashMap<>();
+            for (CatalogEntry entry : entries) {
+                if (entry.getLocalCertificate() != null)
+                    byCertificate.put(entry.getLocalCertificate(), entry);
+                if (entry.getCloudCertificate() != null)
+                    byCertificate.put(entry.getCloudCertificate(), entry);
+                byFingerprint.put(entry.getFingerprint(), entry);
+            }
+
+            catalogByCertificate = byCertificate;
+            catalogByFingerprint = byFingerprint;
+            onUpdate.run();
+        }, (source, e) -> {
+            if (!(e instanceof CancellationException))
+                onSourceError.accept(source, e);
+        })).whenComplete(ignored -> {}, ignored -> {});     // 저장소별 오류는 onSourceError로 전달
+    }
+
+    // 항목의 저장 위치 (예: "Local", "Local / Cloud-Server")
+    @NonNull
+    public String getSourceLabel(int position) {
+        if (certificates != null && position < certificates.size()) {
+            KSCertificateExt cert = certificates.get(position);
+            CatalogEntry entry = catalogByCertificate.get(cert);
+            if (entry == null && !catalogByFingerprint.isEmpty()) {
+                String fingerprint = CertificateCatalog.fingerprint(cert);
+                entry = fingerprint != null ? catalogByFingerprint.get(fingerprint) : null;
+            }
+            if (entry != null)
+                return entry.getSourceLabel();
+        }
+
+        return CertificateSource.describe(CertificateSource.of(items.get(position)));
+    }
+
+    // 화면 종료 시 취소할 진행 중인 호출로 등록
+    private <T> RepositoryFuture<T> track(RepositoryFuture<T> future) {
+        pending.add(future);
+        return future.whenComplete(ignored -> pending.remove(future), ignored -> pending.remove(future));
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        for (RepositoryFuture<?> future : new ArrayList<>(pending))
+            future.cancel();
+    }
+
+    private Repository getRepository(DataSource dataSource) {
+        return (dataSource == DataSource.remote) ? cloudRepo : localRepo;
     }
 
     public void registerCertificate(
@@ -62,23 +224,22 @@ public class CertificateListFragmentViewModel extends ViewModel {
         ProtectedData encryptedSecret = new SecureData(secret.getBytes());
         ProtectedData encryptedpin = new SecureData(pin.getBytes());
 
-        Runnable innerCompletion = () -> {
-            encryptedSecret.clear();
-            encryptedpin.clear();
-            // 클라우드 보관 후 클라우드 목록 갱신
-            cloudRepo.loadCertificates(onComplete, onError);
-        };
-
-        Consumer<Exception> innerError = e -> {
-            encryptedSecret.clear();
-            encryptedpin.clear();
-            onError.accept(e);
-        };
-
-        localRepo.importCertificate(certificate, key,
-                kmCertificate, kmKey,
-                encryptedSecret, encryptedpin,
-                innerCompletion, innerError);
+        track(localRepo.importCertificateAsync(certificate, key,
+                        kmCertificate, kmKey,
+                        encryptedSecret, encryptedpin)
+                .thenCompose(ignored -> {
+                    encryptedSecret.clear();
+                    encryptedpin.clear();
+                    // 클라우드 보관 후 클라우드 목록 갱신
+                    return cloudRepo.refreshCertificatesAsync();
+                }))
+                .whenComplete(ignored -> onComplete.run(), e -> {
+                    encryptedSecret.clear();
+                    encryptedpin.clear();
+                    // 화면 종료로 취소된 경우 결과를 전달하지 않음
+                    if (!(e instanceof CancellationException))
+                        onError.accept(e);
+                });
     }
 
     public void exportCertificate(
@@ -141,94 +302,165 @@ public class CertificateListFragmentViewModel extends ViewModel {
 
     public void deleteCertificate(
         int index,
-        @NonNull Runnable onComplete,
+        @NonNull Consumer<CertificateDelta> onComplete,
         @NonNull Consumer<Exception> onError)
     {
         KSCertificateExt cert = certificates.get(index);
 
-        cloudRepo.deleteCertificate(cert.getId(), () -> {
-            certificates = cloudRepo.getCertificates();      // 삭제된 인증서 리스트 반영
-            onComplete.run();
-        }, onError);
+        // 삭제된 인증서 리스트 반영
+        cloudRepo.deleteCertificate(cert.getId(), () -> onComplete.accept(applyCertificates(null)), onError);
+    }
+
+    // region 일괄 처리 선택
+    public boolean toggleSelection(int index) {
+        KSCertificateExt cert = certificates.get(index);
+        String key = selectionKey(cert);
+        if (selected.remove(key) != null)
+            return false;
+
+        selected.put(key, cert);
+        return true;
+    }
+
+    public boolean isSelected(int index) {
+        return certificates != null
+                && index < certificates.size()
+                && selected.containsKey(selectionKey(certificates.get(index)));
+    }
+
+    public int getSelectionCount() {
+        return selected.size();
+    }
+
+    public void clearSelection() {
+        selected.clear();
+    }
+
+    // 로컬 인증서는 ID가 없으므로 Subject DN과 일련번호로 구분
+    private static String selectionKey(KSCertificateExt cert) {
+        return cert.getId() != null
+                ? "id:" + cert.getId()
+                : "dn:" + cert.getSubject() + "#" + cert.getSerialInt();
+    }
+    // endregion
+
+    // 선택된 인증서를 일괄 삭제하고 삭제된 인증서만 목록에 반영 (삭제에 실패한 인증서는 선택 유지)
+    public void deleteSelectedCertificates(
+        @NonNull BiConsumer<CertificateDelta, BatchResult<String>> onComplete,
+        @NonNull Consumer<Exception> onError)
+    {
+        List<String> ids = selected.values().stream()
+                .map(KSCertificateExt::getId)
+                .collect(Collectors.toList());
+
+        track(cloudRepo.deleteCertificatesAsync(ids, CloudRepository.DEFAULT_DELETE_CONCURRENCY))
+                .whenComplete(result -> {
+                    result.getSucceeded().forEach(id -> selected.remove("id:" + id));
+                    onComplete.accept(applyCertificates(null), result);
+                }, e -> {
+                    if (!(e instanceof CancellationException))
+                        onError.accept(e);
+                });
+    }
+
+    // 선택된 로컬 인증서를 최대 REGISTER_CONCURRENCY개씩 동시에 클라우드에 보관
+    // 클라우드 인증서 목록은 모든 보관이 끝난 후 한 번만 재조회
+    // onProgress: 인증서 하나의 보관이 끝날 때마다 호출 (보관된 인증서는 선택 해제)
+    public void registerSelectedCertificates(
+        @NonNull String secret,
+        @NonNull String pin,
+        @NonNull BiConsumer<KSCertificateExt, BatchResult<KSCertificateExt>> onProgress,
+        @NonNull Consumer<BatchResult<KSCertificateExt>> onComplete,
+        @NonNull Consumer<Exception> onError)
+    {
+        List<KSCertificateExt> certs = new ArrayList<>(selected.values());
+
+        BiConsumer<KSCertificateExt, BatchResult<KSCertificateExt>> progress = (cert, result) -> {
+            if (!result.getFailures().containsKey(cert))
+                selected.remove(selectionKey(cert));
+            onProgress.accept(cert, result);
+        };
+
+        track(RepositoryFuture.forEach(certs, REGISTER_CONCURRENCY, cert -> {
+                    // 인증서마다 별도의 보호 데이터를 사용하고 보관이 끝나면 즉시 삭제
+                    ProtectedData encryptedSecret = new SecureData(secret.getBytes());
+                    ProtectedData encryptedPin = new SecureData(pin.getBytes());
+                    return localRepo.importCertificateAsync(cert.getCertificate(), cert.getKey(),
+                                    cert.getKmCertificate(), cert.getKmKey(),
+                                    encryptedSecret, encryptedPin)
+                            .whenComplete(ignored -> {
+                                encryptedSecret.clear();
+                                encryptedPin.clear();
+                            }, ignored -> {
+                                encryptedSecret.clear();
+                                encryptedPin.clear();
+                            });
+                }, progress)
+                .thenCompose(result -> result.getSucceeded().isEmpty()
+                        ? RepositoryFuture.completed(result)
+                        : cloudRepo.refreshCertificatesAsync().thenApply(ignored -> result)))
+                .whenComplete(onComplete, e -> {
+                    if (!(e instanceof CancellationException))
+                        onError.accept(e);
+                });
     }
 
     public void updateCertificate (
         int index,
         @NonNull String secret,
-        @NonNull Consumer<Hashtable<String, Object>> onComplete)
+        @NonNull Consumer<Hashtable<String, Object>> onComplete,
+        @NonNull Consumer<Exception> onError)
     {
-        if(dataSource == DataSource.remote) {       // 클라우드 인증서 갱신
-            ProtectedData encryptedPin = new SecureData(secret.getBytes());
-            KSCertificateExt cert = certificates.get(index);
-
-            new Thread() {
-                public void run() {
-                    Consumer<Hashtable<String, Object>> innerCompletion = table -> {
-                        encryptedPin.clear();
-                        onComplete.accept(table);
-                    };
-
-                    cloudRepo.updateCertificateCloud(cert,
-                        encryptedPin,
-                        innerCompletion);
-                }
-            }.start();
-        }
-        else {      // 로컬 인증서 갱신
-            ProtectedData encryptedPwd = new SecureData(secret.getBytes());
-            KSCertificateExt cert = certificates.get(index);
-
-            new Thread() {
-                Consumer<Hashtable<String, Object>> innerCompletion = table -> {
-                    encryptedPwd.clear();
-                    onComplete.accept(table);
-                };
-
-                public void run() {
-                    localRepo.updateCertificateLocal(cert,
-                            encryptedPwd,
-                            innerCompletion);
-                }
-            }.start();
-        }
+        ProtectedData encryptedSecret = new SecureData(secret.getBytes());
+        KSCertificateExt cert = certificates.get(index);
+
+        RepositoryFuture<Hashtable<String, Object>> future = dataSource == DataSource.remote
+                ? cloudRepo.updateCertificateCloudAsync(cert, encryptedSecret)     // 클라우드 인증서 갱신
+                : localRepo.updateCertificateLocalAsync(cert, encryptedSecret);    // 로컬 인증서 갱신
+
+        track(future).whenComplete(table -> {
+            encryptedSecret.clear();
+            onComplete.accept(table);
+        }, e -> {
+            encryptedSecret.clear();
+            if (!(e instanceof CancellationException))
+                onError.accept(e);
+        });
     }
 
     public void unlockCertificate(
         int index,
-        @NonNull Runnable onComplete,
+        @NonNull Consumer<CertificateDelta> onComplete,
         @NonNull Consumer<Exception> onError)
     {
         KSCertificateExt cert = certificates.get(index);
 
-        cloudRepo.unlockCertificate(cert, () -> {
-            certificates = cloudRepo.getLockedCertificates();
-            onComplete.run();
-        }, onError);
+        // 잠금 해제된 인증서는 필터(isLock)에 의해 목록에서 제외
+        cloudRepo.unlockCertificate(cert, () -> onComplete.accept(applyCertificates(null)), onError);
     }
 
     public void registerBio(FragmentActivity activity,
                             String id,
                             ProtectedData pin,
-                            Bio.Callback bioCallback) {
-        Bio bio = new Bio(activity, cloudRepo.getCertMgr());
-        bio.setCallback(bioCallback);
-
-        if(bio.isBio(id))
-            bio.removeBioCloud(id);     // 기등록된 생체 인증이 있는 경우 삭제 후 진행
-
-        bio.addBioCloud(id, pin);
+                            Bio.Callback bioCallback,
+                            @NonNull Consumer<Exception> onError) {
+        track(cloudRepo.getCertMgrAsync()).whenComplete(certMgr -> {
+            Bio bio = new Bio(activity, certMgr);
+            bio.setCallback(bioCallback);
+
+            if(bio.isBio(id))
+                bio.removeBioCloud(id);     // 기등록된 생체 인증이 있는 경우 삭제 후 진행
+
+            bio.addBioCloud(id, pin);
+        }, e -> {
+            pin.clear();
+            if (!(e instanceof CancellationException))
+                onError.accept(e);
+        });
     }
 
     public String getCertIdFromSubjectDn(String dn) {
-        try {
-            int idx = cloudRepo.getCertMgr().getCertIdxBySubjectDN(dn);
-            if(idx >= 0)
-                return cloudRepo.getCertificates().get(idx).getId();
-            else
-                return null;
-
-        } catch(Exception e) {
-            return null;
-        }
+        KSCertificateExt cert = cloudRepo.findBySubjectDn(dn);
+        return cert == null ? null : cert.getId();
     }
 }
@@ -1,63 +1,101 @@
 package com.signkorea.cloud.sample.viewModels;
 
-import android.annotation.SuppressLint;
+import android.util.SparseArray;
 
 import androidx.annotation.IdRes;
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.ViewModel;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.yettiesoft.cloud.Client;
+import com.yettiesoft.cloud.PhoneNumberProofTransaction;
 
+import java.util.function.BiConsumer;
+
+// 화면 간 전달 값 저장소
+// 키마다 배열 위치(slot)를 미리 정해 두고 화면(resId)별 slot 배열에 저장하므로 조회 시 키 문자열 생성이 없음
+// 키에 값의 타입이 지정되어 있어 꺼낼 때 형변환이 필요 없음
 public class InterFragmentStore extends ViewModel {
-    public static final String MO_API_EXECUTOR = "MO API transaction";
-    public static final String MO_API_CANCEL = "MO API cancel";
-    public static final String MO_RETURN_VIEW_ID = "MO return view ID";
-    public static final String BILL_ACTION_COMPLETE = "Bill complete action";
-    public static final String BILL_ACTION_CANCEL = "Bill cancel action";
+    private static int slotCount;
+
+    // 공용 키
+    public static final Key<Integer> MO_RETURN_VIEW_ID = new Key<>("MO return view ID");
+    public static final Key<Runnable> BILL_ACTION_COMPLETE = new Key<>("Bill complete action");
+    public static final Key<Runnable> BILL_ACTION_CANCEL = new Key<>("Bill cancel action");
+
+    // 화면별 키 (MO API 처리 객체는 화면마다 타입이 달라 키를 나눔)
+    public static final Key<Client.UserInfoAcceptor> MO_API_USER_INFO = new Key<>("MO API user info");
+    public static final Key<BiConsumer<String, String>> MO_API_AGREE = new Key<>("MO API agree");
+    public static final Key<PhoneNumberProofTransaction> MO_API_TRANSACTION = new Key<>("MO API transaction");
+    public static final Key<Runnable> MO_API_CANCEL = new Key<>("MO API cancel");
 
-    Map<String, Object> store = new HashMap<>();
+    private final Object[] common = new Object[slotCount];
+    private final SparseArray<Object[]> screens = new SparseArray<>();     // resId → slot 배열
 
-    @SuppressLint("DefaultLocale")
-    private String getKey(@IdRes int resId, String key) {
-        return String.format("%d.%s", resId, key);
+    public static final class Key<T> {
+        private final int slot;
+        private final String name;
+
+        private Key(String name) {
+            this.slot = slotCount++;
+            this.name = name;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return name;
+        }
     }
 
-    public String getKey(String key) {
-        return "common." + key;
+    private Object[] getSlots(@IdRes int resId) {
+        Object[] slots = screens.get(resId);
+        if (slots == null) {
+            slots = new Object[slotCount];
+            screens.put(resId, slots);
+        }
+        return slots;
     }
 
-    public void put(@IdRes int resId, String key, Object value) {       // entrust
+    public <T> void put(@IdRes int resId, @NonNull Key<T> key, T value) {        // entrust
         if (value == null) {
             throw new IllegalArgumentException("Value cannot be null.");
         }
 
-        store.put(getKey(resId, key), value);
+        getSlots(resId)[key.slot] = value;
     }
 
     @SuppressWarnings("unchecked")
     @Nullable
-    public <T> T remove(@IdRes int resId, String key) {             // accept
-        return (T)store.remove(getKey(resId, key));
+    public <T> T remove(@IdRes int resId, @NonNull Key<T> key) {             // accept
+        Object[] slots = screens.get(resId);
+        if (slots == null)
+            return null;
+
+        T value = (T)slots[key.slot];
+        slots[key.slot] = null;
+        return value;
     }
 
-    public void put(String key, Object value) {         // entrust
+    public <T> void put(@NonNull Key<T> key, T value) {         // entrust
         if (value == null) {
             throw new IllegalArgumentException("Value cannot be null.");
         }
 
-        store.put(getKey(key), value);
+        common[key.slot] = value;
     }
 
     @SuppressWarnings("unchecked")
     @Nullable
-    public <T> T get(String key) {         // peek
-        return (T)store.get(getKey(key));
+    public <T> T get(@NonNull Key<T> key) {         // peek
+        return (T)common[key.slot];
     }
 
     @SuppressWarnings("unchecked")
     @Nullable
-    public <T> T remove(String key) {       // remove
-        return (T)store.remove(getKey(key));
+    public <T> T remove(@NonNull Key<T> key) {       // remove
+        T value = (T)common[key.slot];
+        common[key.slot] = null;
+        return value;
     }
 }
@@ -4,6 +4,7 @@ import androidx.databinding.ObservableField;
 import androidx.lifecycle.ViewModel;
 
 import com.signkorea.cloud.sample.models.CloudRepository;
+import com.signkorea.securedata.ProtectedData;
 import com.signkorea.securedata.SecureData;
 
 import java.util.Hashtable;
@@ -21,12 +22,19 @@ public class IssueCertificateFragmentViewModel extends ViewModel {
         return this;
     }
 
-    public void issue(Consumer<Hashtable<String, Object>> completion) {
-        CloudRepository.getInstance().issueCertificate(refNum.get(), code.get(), completion);
+    public void issue(Consumer<Hashtable<String, Object>> completion, Consumer<Exception> onError) {
+        CloudRepository.getInstance().issueCertificate(refNum.get(), code.get(), completion, onError);
     }
 
-    public boolean savePhone() {
-        return CloudRepository.getInstance().saveCertificateLocal(new SecureData(pwd.get().getBytes()));
+    public void savePhone(Consumer<Boolean> completion, Consumer<Exception> onError) {
+        ProtectedData encryptedPwd = new SecureData(pwd.get().getBytes());
+        CloudRepository.getInstance().saveCertificateLocal(encryptedPwd, ret -> {
+            encryptedPwd.clear();
+            completion.accept(ret);
+        }, e -> {
+            encryptedPwd.clear();
+            onError.accept(e);
+        });
     }
 
     public void saveCloud(String pin, Runnable completion, Consumer<Exception> onError) {
@@ -33,11 +33,12 @@ import com.signkorea.cloud.BillInfo;
 import com.signkorea.cloud.KSCertificateManagerExt;
 import com.signkorea.cloud.sample.BuildConfig;
 import com.signkorea.cloud.sample.R;
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.databinding.ActivityMainBinding;
 import com.signkorea.cloud.sample.enums.CertificateOperation;
-import com.signkorea.cloud.sample.models.CloudRepository;
-import com.signkorea.cloud.sample.models.LocalRepository;
+import com.signkorea.cloud.sample.models.RepositoryStartup;
 import com.signkorea.cloud.sample.utils.PasswordDialog;
+import com.signkorea.cloud.sample.utils.StartupTracer;
 import com.signkorea.cloud.sample.viewModels.InterFragmentStore;
 import com.signkorea.cloud.sample.views.base.DataBindingActivity;
 import com.signkorea.cloud.sample.views.fragments.CloudCertificateListFragmentArgs;
@@ -55,6 +56,7 @@ import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+@GenerateBindingFactory
 public class MainActivity extends DataBindingActivity<ActivityMainBinding> implements Client.Delegate, KSCertificateManagerExt.Delegate {
     private InterFragmentStore interFragmentStore;
     private AppBarConfiguration appBarConfiguration;
@@ -64,24 +66,31 @@ public class MainActivity extends DataBindingActivity<ActivityMainBinding> imple
     @Override
     @SuppressLint("NonConstantResourceId")
     protected void onCreate(@Nullable Bundle savedInstanceState) {
+        StartupTracer tracer = StartupTracer.getInstance();
+        tracer.begin(StartupTracer.ON_CREATE);
         super.onCreate(savedInstanceState);
 
         interFragmentStore = new ViewModelProvider(this).get(InterFragmentStore.class);
 
-        try {
-            CloudRepository.getInstance().init(this, this, this);
-            LocalRepository.getInstance().init(this, this, this);
-        }
-        catch(InvalidLicenseException e) {
-            new AlertDialog.Builder(this)
-                    .setTitle("라이선스 오류")
-                    .setMessage("라이선스를 확인 후 재시도해주세요.\n앱을 종료합니다.")
-                    .setPositiveButton("확인", (d, i) -> finish())
-                    .setCancelable(false)
-                    .show();
-            return;
-        }
+        // 인증서 관리자 초기화는 백그라운드에서 진행하고 화면은 바로 표시
+        // (초기화 전에 호출된 저장소 API는 초기화가 끝날 때까지 대기)
+        RepositoryStartup.getInstance().start(this, this, this)
+                .whenComplete(ignored -> {}, e -> {
+                    if (isFinishing())
+                        return;
+
+                    boolean license = e instanceof InvalidLicenseException;
+                    new AlertDialog.Builder(this)
+                            .setTitle(license ? "라이선스 오류" : "초기화 오류")
+                            .setMessage(license
+                                    ? "라이선스를 확인 후 재시도해주세요.\n앱을 종료합니다."
+                                    : "인증서 관리자 초기화에 실패했습니다.\n앱을 종료합니다.")
+                            .setPositiveButton("확인", (d, i) -> finish())
+                            .setCancelable(false)
+                            .show();
+                });
 
+        tracer.begin(StartupTracer.NAV_GRAPH);
         Fragment navHostFragment = getSupportFragmentManager().findFragmentById(R.id.nav_host_fragment);
         @SuppressWarnings("ConstantConditions")
         NavController navController = ((NavHostFragment)navHostFragment).getNavController();
@@ -108,6 +117,8 @@ public class MainActivity extends DataBindingActivity<ActivityMainBinding> imple
             }
         });
 
+        tracer.end(StartupTracer.NAV_GRAPH);
+
         loadingPopup = new Dialog(this);
         loadingPopup.getWindow().setBackgroundDrawable(new ColorDrawable(Color.TRANSPARENT));
         loadingPopup.setContentView(new ProgressBar(this));
@@ -128,6 +139,9 @@ public class MainActivity extends DataBindingActivity<ActivityMainBinding> imple
                         REQ_PERMISSION);
             }
         }
+
+        tracer.end(StartupTracer.ON_CREATE);
+        tracer.end(StartupTracer.PROCESS_START);
     }
 
     @Override
@@ -170,7 +184,7 @@ public class MainActivity extends DataBindingActivity<ActivityMainBinding> imple
     public void acquireUserInfo(@NonNull Client.UserInfoAcceptor acceptor, @NonNull Runnable cancel) {
         int returnViewId = getNavController().getCurrentDestination().getId();
         getInterFragmentStore().put(InterFragmentStore.MO_RETURN_VIEW_ID, returnViewId);  // MO 인증 완료 후 복귀할 화면
-        getInterFragmentStore().put(R.id.userInfoFormFragment, InterFragmentStore.MO_API_EXECUTOR, acceptor);
+        getInterFragmentStore().put(R.id.userInfoFormFragment, InterFragmentStore.MO_API_USER_INFO, acceptor);
         getInterFragmentStore().put(R.id.userInfoFormFragment, InterFragmentStore.MO_API_CANCEL, (Runnable)() -> {
             getInterFragmentStore().remove(InterFragmentStore.MO_RETURN_VIEW_ID);
             cancel.run();
@@ -190,12 +204,12 @@ public class MainActivity extends DataBindingActivity<ActivityMainBinding> imple
         getSupportActionBar().hide();
 
         // MO 인증 완료 후 복귀할 화면 업데이트
-        int returnViewId = (int) Optional.ofNullable(getInterFragmentStore().remove(InterFragmentStore.MO_RETURN_VIEW_ID))
+        int returnViewId = Optional.ofNullable(getInterFragmentStore().remove(InterFragmentStore.MO_RETURN_VIEW_ID))
                 .orElse(getNavController().getCurrentDestination().getId());
         getInterFragmentStore().put(InterFragmentStore.MO_RETURN_VIEW_ID, returnViewId);
 
         Runnable acknowledgeConditionsOfUse = () -> {
-            getInterFragmentStore().put(R.id.conditionsOfUseFragment, InterFragmentStore.MO_API_EXECUTOR, agree);
+            getInterFragmentStore().put(R.id.conditionsOfUseFragment, InterFragmentStore.MO_API_AGREE, agree);
             getInterFragmentStore().put(R.id.conditionsOfUseFragment, InterFragmentStore.MO_API_CANCEL, (Runnable)() -> {
                 getInterFragmentStore().remove(InterFragmentStore.MO_RETURN_VIEW_ID);
                 cancel.run();
@@ -212,7 +226,10 @@ public class MainActivity extends DataBindingActivity<ActivityMainBinding> imple
                 .setTitle("재가입 안내")
                 .setMessage("다른 이름으로 가입된 정보가 있습니다. 재가입하시겠습니까?\n클라우드에 저장되어 있던 인증서는 모두 삭제됩니다.")
                 .setPositiveButton(android.R.string.ok, (dialog, which) -> acknowledgeConditionsOfUse.run())
-                .setNegativeButton(android.R.string.cancel,(dialog, which) -> getInterFragmentStore().<Runnable>remove(InterFragmentStore.MO_API_CANCEL).run())
+                .setNegativeButton(android.R.string.cancel,(dialog, which) -> {
+                    getInterFragmentStore().remove(InterFragmentStore.MO_RETURN_VIEW_ID);
+                    cancel.run();
+                })
                 .show();
         } else {
             acknowledgeConditionsOfUse.run();
@@ -225,7 +242,7 @@ public class MainActivity extends DataBindingActivity<ActivityMainBinding> imple
     public void onPhoneNumberProofTransactionStart(@NonNull PhoneNumberProofTransaction transaction,
                                                    @NonNull Runnable cancel) {
         // MO 인증 완료 후 복귀할 화면 업데이트
-        int returnViewId = (int) Optional.ofNullable(getInterFragmentStore().remove(InterFragmentStore.MO_RETURN_VIEW_ID))
+        int returnViewId = Optional.ofNullable(getInterFragmentStore().remove(InterFragmentStore.MO_RETURN_VIEW_ID))
                 .orElse(getNavController().getCurrentDestination().getId());
         getInterFragmentStore().put(InterFragmentStore.MO_RETURN_VIEW_ID, returnViewId);
 
@@ -236,7 +253,7 @@ public class MainActivity extends DataBindingActivity<ActivityMainBinding> imple
             fragId = R.id.phoneNumberAuthenticationV1Fragment;
         }
 
-        getInterFragmentStore().put(fragId, InterFragmentStore.MO_API_EXECUTOR, transaction);
+        getInterFragmentStore().put(fragId, InterFragmentStore.MO_API_TRANSACTION, transaction);
         getInterFragmentStore().put(fragId, InterFragmentStore.MO_API_CANCEL, (Runnable)() -> {
             cancel.run();
         });
@@ -348,8 +365,8 @@ public class MainActivity extends DataBindingActivity<ActivityMainBinding> imple
     @Override
     public void onActivityResult(int requestCode, int resultCode, Intent data) {
         if(requestCode == BillActivity.ID) {
-            String useAction;
-            String discardAction;
+            InterFragmentStore.Key<Runnable> useAction;
+            InterFragmentStore.Key<Runnable> discardAction;
             if(resultCode == Activity.RESULT_OK){
                 useAction = InterFragmentStore.BILL_ACTION_COMPLETE;
                 discardAction = InterFragmentStore.BILL_ACTION_CANCEL;
@@ -358,7 +375,7 @@ public class MainActivity extends DataBindingActivity<ActivityMainBinding> imple
                 useAction = InterFragmentStore.BILL_ACTION_CANCEL;
                 discardAction = InterFragmentStore.BILL_ACTION_COMPLETE;
             }
-            getInterFragmentStore().<Runnable>remove(useAction).run();
+            getInterFragmentStore().remove(useAction).run();
             getInterFragmentStore().remove(discardAction);
         }
         else
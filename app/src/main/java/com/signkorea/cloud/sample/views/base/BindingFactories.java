@@ -0,0 +1,37 @@
+package com.signkorea.cloud.sample.views.base;
+
+import androidx.annotation.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 화면 클래스별 BindingFactory 조회 (처음 한 번만 찾고 이후에는 캐시 사용)
+// 컴파일 시 생성된 <화면>_BindingFactory가 있으면 사용하고, 없으면 리플렉션 구현 사용
+public final class BindingFactories {
+    // BindingFactoryProcessor의 생성 클래스 이름 규칙과 같아야 함
+    private static final String GENERATED_SUFFIX = "_BindingFactory";
+
+    private static final Map<Class<?>, BindingFactory<?>> factories = new ConcurrentHashMap<>();
+
+    private BindingFactories() {}
+
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public static <BindingT> BindingFactory<BindingT> of(@NonNull Class<?> screen) {
+        return (BindingFactory<BindingT>) factories.computeIfAbsent(screen, BindingFactories::create);
+    }
+
+    private static BindingFactory<?> create(Class<?> screen) {
+        // 중첩 클래스는 바깥 클래스 이름과 '_'로 연결 (Outer$Inner → Outer_Inner_BindingFactory)
+        String generatedName = screen.getName().replace('$', '_') + GENERATED_SUFFIX;
+        try {
+            return (BindingFactory<?>) Class.forName(generatedName, true, screen.getClassLoader())
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ClassNotFoundException e) {
+            return new ReflectiveBindingFactory<>(screen);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.signkorea.cloud.sample.views.base;
+
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.ViewModel;
+
+// 화면별 바인딩/뷰모델 생성 방법
+// @GenerateBindingFactory 화면은 컴파일 시 생성된 구현, 그 외 화면은 ReflectiveBindingFactory 사용
+public interface BindingFactory<BindingT> {
+    @NonNull
+    BindingT inflate(@NonNull LayoutInflater inflater, @Nullable ViewGroup container);
+
+    // 뷰모델이 없는 화면은 null
+    @Nullable
+    Class<? extends ViewModel> getViewModelClass();
+
+    // 바인딩에 setViewModel이 없으면 아무 것도 하지 않음
+    void bindViewModel(@NonNull BindingT binding, @NonNull ViewModel viewModel);
+}
@@ -0,0 +1,57 @@
+package com.signkorea.cloud.sample.views.base;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+// 오류 코드 → 값 조회 표 (정렬된 int 배열을 이진 탐색, 조회 시 할당 없음)
+// 범위로 등록한 코드는 생성 시점에 코드별 값을 미리 만들어 두므로 조회 시 문자열 조합이 없음
+public class CodeTable<R> {
+    private final int[] codes;
+    private final Object[] values;
+
+    private CodeTable(int[] codes, Object[] values) {
+        this.codes = codes;
+        this.values = values;
+    }
+
+    // 등록되지 않은 코드는 null
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public R get(int code) {
+        int index = Arrays.binarySearch(codes, code);
+        return index >= 0 ? (R) values[index] : null;
+    }
+
+    public static class Builder<R> {
+        private final Map<Integer, R> entries = new TreeMap<>();
+
+        public Builder<R> put(int code, @NonNull R value) {
+            entries.put(code, value);
+            return this;
+        }
+
+        // from ~ to (포함) 코드마다 value.apply(code) 값을 미리 생성
+        public Builder<R> putRange(int from, int to, @NonNull IntFunction<R> value) {
+            for (int code = from; code <= to; code++)
+                entries.put(code, value.apply(code));
+            return this;
+        }
+
+        public CodeTable<R> build() {
+            int[] codes = new int[entries.size()];
+            Object[] values = new Object[entries.size()];
+            int i = 0;
+            for (Map.Entry<Integer, R> entry : entries.entrySet()) {
+                codes[i] = entry.getKey();
+                values[i] = entry.getValue();
+                i++;
+            }
+            return new CodeTable<>(codes, values);
+        }
+    }
+}
@@ -8,30 +8,12 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.databinding.ViewDataBinding;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-
 public class DataBindingActivity<BindingT extends ViewDataBinding> extends AppCompatActivity {
     private final String TAG = getClass().getSimpleName();
     private BindingT binding;
 
-    @SuppressWarnings({"unchecked", "ConstantConditions"})
-    public Class<BindingT> getBindingClass() {
-        return (Class<BindingT>)((ParameterizedType)getClass().getGenericSuperclass())
-                .getActualTypeArguments()[0];
-    }
-
-    @SuppressWarnings("unchecked")
     private BindingT inflate(LayoutInflater inflater) {
-        try {
-            Method inflateMethod = getBindingClass()
-                    .getMethod("inflate", LayoutInflater.class);
-
-            return (BindingT)inflateMethod.invoke(null, inflater);
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new RuntimeException(e);
-        }
+        return BindingFactories.<BindingT>of(getClass()).inflate(inflater, null);
     }
 
     @NonNull
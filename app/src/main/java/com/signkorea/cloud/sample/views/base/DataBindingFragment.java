@@ -4,7 +4,6 @@ import android.annotation.SuppressLint;
 import android.app.AlertDialog;
 import android.os.Bundle;
 import android.util.Log;
-import android.util.Pair;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -29,36 +28,17 @@ import com.yettiesoft.cloud.InvalidPinException;
 import com.yettiesoft.cloud.NonmemberException;
 import com.yettiesoft.cloud.NotCachedCertificateException;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
 import java.net.SocketTimeoutException;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.concurrent.TimeoutException;
 
 public class DataBindingFragment<BindingT extends ViewDataBinding> extends Fragment {
     protected final String TAG = getClass().getSimpleName();
     private BindingT binding;
     private InterFragmentStore interFragmentStore;
 
-    @SuppressWarnings({"unchecked", "ConstantConditions"})
-    public Class<BindingT> getBindingClass() {
-        return (Class<BindingT>)((ParameterizedType)getClass().getGenericSuperclass())
-            .getActualTypeArguments()[0];
-    }
-
-    @SuppressWarnings("unchecked")
     private BindingT inflate(LayoutInflater inflater, ViewGroup container) {
-        try {
-            Method inflateMethod = getBindingClass()
-                .getMethod("inflate", LayoutInflater.class, ViewGroup.class, boolean.class);
-
-            return (BindingT)inflateMethod.invoke(null, inflater, container, false);
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new RuntimeException(e);
-        }
+        return BindingFactories.<BindingT>of(getClass()).inflate(inflater, container);
     }
 
     @NonNull
@@ -109,12 +89,12 @@ public class DataBindingFragment<BindingT extends ViewDataBinding> extends Fragm
     }
 
     protected int getMoReturnDestinationViewId() {
-        return Optional.ofNullable((Integer)getInterFragmentStore().get(InterFragmentStore.MO_RETURN_VIEW_ID))
+        return Optional.ofNullable(getInterFragmentStore().get(InterFragmentStore.MO_RETURN_VIEW_ID))
                 .orElse(-1);
     }
 
     protected int removeMoReturnDestinationViewId() {
-        return Optional.ofNullable((Integer)getInterFragmentStore().remove(InterFragmentStore.MO_RETURN_VIEW_ID))
+        return Optional.ofNullable(getInterFragmentStore().remove(InterFragmentStore.MO_RETURN_VIEW_ID))
                 .orElse(-1);
     }
 
@@ -144,7 +124,7 @@ public class DataBindingFragment<BindingT extends ViewDataBinding> extends Fragm
             }
         };
 
-        String message = exceptionMapper.apply(exception);
+        String message = getExceptionMessage(exception);
         AlertDialog.Builder builder = new AlertDialog.Builder(requireContext())
                 .setMessage(message)
                 .setPositiveButton(android.R.string.ok, null)
@@ -156,6 +136,11 @@ public class DataBindingFragment<BindingT extends ViewDataBinding> extends Fragm
         builder.show();
     }
 
+    @NonNull
+    protected String getExceptionMessage(@NonNull Exception exception) {
+        return exceptionMapper.apply(exception);
+    }
+
     protected void alertException(@NonNull Exception exception, @NonNull String title, boolean popBackStack) {
         alertException(exception, title, popBackStack, null);
     }
@@ -172,35 +157,22 @@ public class DataBindingFragment<BindingT extends ViewDataBinding> extends Fragm
         alertException(exception, null, false, null);
     }
 
-    static class ExceptionMapper<R> {
-        private final List<Pair<Class<?>, Function<Object, R>>> chain = new LinkedList<>();
-        private Function<Exception, R> orElse;
-
-        @SuppressWarnings("unchecked")
-        public <T extends Exception> ExceptionMapper<R> is(@NonNull Class<T> cls, @NonNull Function<T, R> fn) {
-            chain.add(new Pair<>(cls, o -> fn.apply((T)o)));
-            return this;
-        }
-
-        public ExceptionMapper<R> orElse(@NonNull Function<Exception, R> orElse) {
-            this.orElse = orElse;
-            return this;
-        }
-
-        @NonNull
-        public R apply(@NonNull Exception exception) {
-            Class<?> cls = exception.getClass();
-            for(Pair<Class<?>, Function<Object, R>> pair: chain) {
-                if (pair.first.isAssignableFrom(cls)) {
-                    return pair.second.apply(exception);
-                }
-            }
-
-            return orElse.apply(exception);
-        }
-    }
-
+    // CloudAPIException 코드별 메시지 (이상거래 탐지 코드는 코드별 메시지를 미리 생성)
     @SuppressLint("DefaultLocale")
+    private static final CodeTable<String> cloudApiMessages = new CodeTable.Builder<String>()
+        .put(CloudAPIException.PhoneNumberProofIntervalPolicyViolation, "매크로 방지를 위해 잠시후 다시 시도해 주세요.")
+        .put(CloudAPIException.OldCertificate, "최신 인증서가 이미 등록되어 있습니다.")
+        .put(CloudAPIException.PinLock, "PIN 5회 오류로 인해 인증서가 잠겼습니다.")
+        .put(CloudAPIException.NotAllowCert, "Cloud에 등록할 수 없는 인증서입니다.")
+        .put(CloudAPIException.NotAllowTime, "Cloud 사용 제한 시간입니다.")
+        .put(CloudAPIException.StartEndTimeIsSame, "보안설정 시작 시간과 종료 시간이 같습니다.")
+        .put(CloudAPIException.NotAllowAge, "만 14세 이하는 서비스 이용이 불가합니다.")
+        .put(CloudAPIException.NotAllowLocation, "Cloud에 사용 제한 지역입니다.")
+        .put(CloudAPIException.NotAllowExport, "Cloud에서 내려받을 수 없는 인증서입니다.")
+        .putRange(CloudAPIException.FDSDetect, CloudAPIException.FDSDetect + 9,
+                code -> String.format("Cloud에서 이상거래가 탐지되었습니다.(%d)", code))
+        .build();
+
     private static final ExceptionMapper<String> exceptionMapper = new ExceptionMapper<String>()
         .is(IncorrectPasscodeException.class, exception -> {
             String failCount = Optional.of(exception.getPinFailCount())
@@ -211,7 +183,7 @@ public class DataBindingFragment<BindingT extends ViewDataBinding> extends Fragm
                         if (c.getFailed() == c.getMaxErrorCount())
                             return "캐시 인증서 PIN 오류로 인해 해당 캐시 인증서 사용이 불가합니다. 클라우드 인증서를 이용해 서명해주세요.";
                         else
-                            return String.format("인증서 PIN이 일치하지 않습니다. [%d/%d]", c.getFailed(), c.getMaxErrorCount());
+                            return "인증서 PIN이 일치하지 않습니다. [" + c.getFailed() + "/" + c.getMaxErrorCount() + "]";
                     }
                 })
                 .orElse("");
@@ -221,39 +193,10 @@ public class DataBindingFragment<BindingT extends ViewDataBinding> extends Fragm
         .is(NonmemberException.class, ignored -> "공동인증 서비스 회원이 아닙니다.")
         .is(CancelException.class, ignored -> "클라우드 서비스 연결 후 이용해주세요.")
         .is(CloudAPIException.class, exception -> {
-            switch (exception.getCode()) {
-                case CloudAPIException.PhoneNumberProofIntervalPolicyViolation:
-                    return "매크로 방지를 위해 잠시후 다시 시도해 주세요.";
-                case CloudAPIException.OldCertificate:
-                    return "최신 인증서가 이미 등록되어 있습니다.";
-                case CloudAPIException.PinLock:
-                    return "PIN 5회 오류로 인해 인증서가 잠겼습니다.";
-                case CloudAPIException.NotAllowCert:
-                    return "Cloud에 등록할 수 없는 인증서입니다.";
-                case CloudAPIException.NotAllowTime:
-                    return "Cloud 사용 제한 시간입니다.";
-                case CloudAPIException.StartEndTimeIsSame:
-                    return "보안설정 시작 시간과 종료 시간이 같습니다.";
-                case CloudAPIException.NotAllowAge:
-                    return "만 14세 이하는 서비스 이용이 불가합니다.";
-                case CloudAPIException.NotAllowLocation:
-                    return "Cloud에 사용 제한 지역입니다.";
-                case CloudAPIException.NotAllowExport:
-                    return "Cloud에서 내려받을 수 없는 인증서입니다.";
-                case CloudAPIException.FDSDetect:
-                case CloudAPIException.FDSDetect + 1:
-                case CloudAPIException.FDSDetect + 2:
-                case CloudAPIException.FDSDetect + 3:
-                case CloudAPIException.FDSDetect + 4:
-                case CloudAPIException.FDSDetect + 5:
-                case CloudAPIException.FDSDetect + 6:
-                case CloudAPIException.FDSDetect + 7:
-                case CloudAPIException.FDSDetect + 8:
-                case CloudAPIException.FDSDetect + 9:
-                    return String.format("Cloud에서 이상거래가 탐지되었습니다.(%d)", exception.getCode());
-                default:
-                    return String.format("서비스 장애가 발생하였습니다.[%d:%s]", exception.getCode(), exception.getMessage());
-            }
+            String message = cloudApiMessages.get(exception.getCode());
+            return message != null
+                    ? message
+                    : "서비스 장애가 발생하였습니다.[" + exception.getCode() + ":" + exception.getMessage() + "]";
         })
         .is(InvalidLicenseException.class, ignored -> "클라우드 라이선스 정보가 유효하지 않습니다.")
         .is(InvalidPinException.class, exception -> {
@@ -274,6 +217,7 @@ public class DataBindingFragment<BindingT extends ViewDataBinding> extends Fragm
         })
         .is(RuntimeException.class, Throwable::getMessage)
         .is(SocketTimeoutException.class, ignored -> "서버에서 응답이 없습니다.")
+        .is(TimeoutException.class, ignored -> "서버에서 응답이 없습니다.")
         .orElse(ignored -> "알 수 없는 오류가 발생하였습니다.");
 
     public void showLoading() {
@@ -0,0 +1,53 @@
+package com.signkorea.cloud.sample.views.base;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// 예외 클래스별 변환 함수 (등록 순서대로 처음 일치하는 함수 사용)
+// 예외 클래스마다 처음 한 번만 등록 목록을 확인하고 이후에는 캐시된 함수를 바로 사용
+public class ExceptionMapper<R> {
+    private final List<Entry<R>> chain = new ArrayList<>();
+    private final Map<Class<?>, Function<Object, R>> resolved = new ConcurrentHashMap<>();
+    private Function<Object, R> orElse;
+
+    private static class Entry<R> {
+        final Class<?> cls;
+        final Function<Object, R> fn;
+
+        Entry(Class<?> cls, Function<Object, R> fn) {
+            this.cls = cls;
+            this.fn = fn;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Exception> ExceptionMapper<R> is(@NonNull Class<T> cls, @NonNull Function<T, R> fn) {
+        chain.add(new Entry<>(cls, o -> fn.apply((T) o)));
+        resolved.clear();
+        return this;
+    }
+
+    public ExceptionMapper<R> orElse(@NonNull Function<Exception, R> orElse) {
+        this.orElse = o -> orElse.apply((Exception) o);
+        resolved.clear();
+        return this;
+    }
+
+    @NonNull
+    public R apply(@NonNull Exception exception) {
+        return resolved.computeIfAbsent(exception.getClass(), this::resolve).apply(exception);
+    }
+
+    private Function<Object, R> resolve(Class<?> cls) {
+        for (Entry<R> entry : chain) {
+            if (entry.cls.isAssignableFrom(cls))
+                return entry.fn;
+        }
+        return orElse;
+    }
+}
@@ -0,0 +1,75 @@
+package com.signkorea.cloud.sample.views.base;
+
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.ViewModel;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+// 생성된 팩토리가 없는 화면용 리플렉션 구현
+// 타입 인자와 메소드는 화면 클래스마다 한 번만 조회 (BindingFactories에서 캐시)
+class ReflectiveBindingFactory<BindingT> implements BindingFactory<BindingT> {
+    private final Method inflateMethod;
+    @Nullable
+    private final Class<? extends ViewModel> viewModelClass;
+    @Nullable
+    private final Method viewModelSetter;
+
+    @SuppressWarnings("unchecked")
+    ReflectiveBindingFactory(Class<?> screen) {
+        Type[] arguments = ((ParameterizedType) screen.getGenericSuperclass()).getActualTypeArguments();
+        Class<?> bindingClass = (Class<?>) arguments[0];
+        viewModelClass = arguments.length > 1 && arguments[1] instanceof Class
+                ? (Class<? extends ViewModel>) arguments[1]
+                : null;
+
+        try {
+            inflateMethod = bindingClass.getMethod("inflate", LayoutInflater.class, ViewGroup.class, boolean.class);
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+
+        Method setter = null;
+        if (viewModelClass != null) {
+            try {
+                setter = bindingClass.getMethod("setViewModel", viewModelClass);
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        viewModelSetter = setter;
+    }
+
+    @NonNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public BindingT inflate(@NonNull LayoutInflater inflater, @Nullable ViewGroup container) {
+        try {
+            return (BindingT) inflateMethod.invoke(null, inflater, container, false);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Class<? extends ViewModel> getViewModelClass() {
+        return viewModelClass;
+    }
+
+    @Override
+    public void bindViewModel(@NonNull BindingT binding, @NonNull ViewModel viewModel) {
+        if (viewModelSetter == null)
+            return;
+
+        try {
+            viewModelSetter.invoke(binding, viewModel);
+        } catch (IllegalAccessException | InvocationTargetException ignored) {
+        }
+    }
+}
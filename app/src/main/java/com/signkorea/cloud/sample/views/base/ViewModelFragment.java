@@ -10,10 +10,6 @@ import androidx.databinding.ViewDataBinding;
 import androidx.lifecycle.ViewModel;
 import androidx.lifecycle.ViewModelProvider;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-
 public abstract class ViewModelFragment<BindingT extends ViewDataBinding, ViewModelT extends ViewModel>
         extends DataBindingFragment<BindingT>
 {
@@ -28,23 +24,13 @@ public abstract class ViewModelFragment<BindingT extends ViewDataBinding, ViewMo
         super.onActivityResult(requestCode, resultCode, data);
     }
 
-    @SuppressWarnings({"unchecked", "ConstantConditions"})
-    public Class<ViewModelT> getViewModelClass() {
-        return (Class<ViewModelT>)((ParameterizedType)getClass().getGenericSuperclass())
-                .getActualTypeArguments()[1];
-    }
-
     @Override
+    @SuppressWarnings({"unchecked", "ConstantConditions"})
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
-        Class<ViewModelT> viewModelType = getViewModelClass();
-
-        viewModel = new ViewModelProvider(this).get(viewModelType);
+        BindingFactory<BindingT> factory = BindingFactories.of(getClass());
 
-        try {
-            Method modelSetter = getBindingClass().getMethod("setViewModel", viewModelType);
-            modelSetter.invoke(getBinding(), viewModel);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ignored) {
-        }
+        viewModel = (ViewModelT) new ViewModelProvider(this).get(factory.getViewModelClass());
+        factory.bindViewModel(getBinding(), viewModel);
     }
 }
@@ -9,6 +9,7 @@ import androidx.annotation.Nullable;
 import androidx.navigation.NavDirections;
 import androidx.navigation.Navigation;
 
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.databinding.FragmentAccountManagementBinding;
 import com.signkorea.cloud.sample.models.CloudRepository;
 import com.signkorea.cloud.sample.views.base.DataBindingFragment;
@@ -18,6 +19,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Consumer;
 
+@GenerateBindingFactory
 public class AccountManagementFragment extends DataBindingFragment<FragmentAccountManagementBinding> {
     private CloudRepository cloudRepo = CloudRepository.getInstance();
 
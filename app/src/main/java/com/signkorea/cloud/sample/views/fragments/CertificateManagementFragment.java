@@ -8,10 +8,12 @@ import androidx.annotation.Nullable;
 import androidx.navigation.NavDirections;
 import androidx.navigation.Navigation;
 
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.views.base.DataBindingFragment;
 import com.signkorea.cloud.sample.databinding.FragmentCertificateManagementBinding;
 import com.signkorea.cloud.sample.enums.CertificateOperation;
 
+@GenerateBindingFactory
 public class CertificateManagementFragment extends DataBindingFragment<FragmentCertificateManagementBinding> {
     @Override
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
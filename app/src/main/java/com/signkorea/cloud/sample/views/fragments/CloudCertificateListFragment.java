@@ -15,10 +15,15 @@ import androidx.navigation.Navigation;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.signkorea.cloud.KSCertificateExt;
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.databinding.FragmentCloudCertificateListBinding;
 import com.signkorea.cloud.sample.databinding.ItemCertificateBinding;
 import com.signkorea.cloud.sample.enums.CertificateOperation;
+import com.signkorea.cloud.sample.enums.CertificateSource;
 import com.signkorea.cloud.sample.enums.DataSource;
+import com.signkorea.cloud.sample.models.BatchResult;
+import com.signkorea.cloud.sample.models.CertificateDelta;
+import com.signkorea.cloud.sample.models.CertificateMetadata;
 import com.signkorea.cloud.sample.enums.SignMenuType;
 import com.signkorea.cloud.sample.models.CloudRepository;
 import com.signkorea.cloud.sample.utils.PasswordDialog;
@@ -33,7 +38,9 @@ import java.time.format.FormatStyle;
 import java.util.Hashtable;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+@GenerateBindingFactory
 public class CloudCertificateListFragment extends ViewModelFragment<FragmentCloudCertificateListBinding, CertificateListFragmentViewModel> {
     private CertificateOperation operation = CertificateOperation.get;
 
@@ -44,41 +51,51 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
     private String code = null;
     private String message = null;
 
+    // 백그라운드 재조회 등으로 클라우드 인증서 목록이 변경된 경우 변경된 항목만 화면에 반영
+    private final Consumer<CertificateDelta> onCertificatesChanged = delta -> {
+        getViewModel().applyCertificates(delta).dispatchUpdatesTo(adapter);
+        updateEmptyView();
+    };
+
+    @SuppressLint("NotifyDataSetChanged")
     private void refresh() {
         Consumer<Exception> onError = exception -> alertException(exception, operation.getLabel(), true);
 
-        @SuppressLint("NotifyDataSetChanged")
-        Runnable completion = () -> {
+        Consumer<CertificateDelta> completion = delta -> {
             dismissLoading();
             navigateToReturnView(false);
-            adapter.notifyDataSetChanged();
-
-            if (adapter.getItemCount() == 0) {
-                getBinding().noCertText.setVisibility(View.VISIBLE);
-                getBinding().registCert.setVisibility(View.VISIBLE);
-                if(operation == CertificateOperation.unlock) {
-                    getBinding().noCertText.setText("잠긴 인증서가 없습니다.");
-                    getBinding().registCert.setText("뒤로가기");
-                }
-            } else
-            {
-                getBinding().noCertText.setVisibility(View.GONE);
-                getBinding().registCert.setVisibility(View.GONE);
-            }
+            delta.dispatchUpdatesTo(adapter);
+            updateEmptyView();
         };
 
+        Predicate<CertificateMetadata> filter = operation == CertificateOperation.unlock
+                ? CertificateMetadata::isLock
+                : null;
+
         showLoading();
-        if(operation == CertificateOperation.unlock) {
-            getViewModel().loadData(DataSource.remote,
-                    KSCertificateExt::isLock,
-                    completion,
-                    onError);
-        }
-        else {
-            getViewModel().loadData(DataSource.remote,
-                    null,
-                    completion,
-                    onError);
+        getViewModel().loadSnapshot(DataSource.remote, filter, () -> {
+            dismissLoading();
+            adapter.notifyDataSetChanged();     // 스냅샷 목록을 먼저 표시하고 로딩 완료 후 갱신
+        });
+
+        getViewModel().loadData(DataSource.remote,
+                filter,
+                completion,
+                onError);
+    }
+
+    private void updateEmptyView() {
+        if (adapter.getItemCount() == 0) {
+            getBinding().noCertText.setVisibility(View.VISIBLE);
+            getBinding().registCert.setVisibility(View.VISIBLE);
+            if(operation == CertificateOperation.unlock) {
+                getBinding().noCertText.setText("잠긴 인증서가 없습니다.");
+                getBinding().registCert.setText("뒤로가기");
+            }
+        } else
+        {
+            getBinding().noCertText.setVisibility(View.GONE);
+            getBinding().registCert.setVisibility(View.GONE);
         }
     }
 
@@ -90,6 +107,7 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
         menuType = CloudCertificateListFragmentArgs.fromBundle(getArguments()).getSignMenuType();
 
         getBinding().recyclerView.setAdapter(adapter);
+        getBinding().deleteSelected.setOnClickListener(v -> deleteSelectedCertificates());
 
         NavDirections direction;
 
@@ -108,13 +126,24 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
     @Override
     public void onResume() {
         super.onResume();
+        CloudRepository.getInstance().addCertificatesObserver(onCertificatesChanged);
         // MO에서 복귀한 경우 중복 호출 방지
         // MO에서 복귀한 경우가 아닐 때만 화면/데이터 갱신
         if(getMoReturnDestinationViewId() < 0)
             refresh();
     }
 
+    @Override
+    public void onPause() {
+        super.onPause();
+        CloudRepository.getInstance().removeCertificatesObserver(onCertificatesChanged);
+    }
+
     private void onItemClick(int position) {
+        // 스냅샷 표시 중에는 인증서 목록 로딩 완료 후 선택 가능
+        if (getViewModel().isSnapshot())
+            return;
+
         switch (operation) {
             case get:
                 getCertificateIndex(position);
@@ -129,7 +158,11 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
                 break;
 
             case delete:
-                deleteCertificate(position);
+                // 여러 인증서 선택 중이면 선택 상태만 변경
+                if (getViewModel().getSelectionCount() > 0)
+                    toggleSelection(position);
+                else
+                    deleteCertificate(position);
                 break;
 
             case updateCloud:
@@ -220,10 +253,11 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
     }
 
     private void deleteCertificate(int position) {
-        Runnable completion = () -> {
+        Consumer<CertificateDelta> completion = delta -> {
             Toast.makeText(requireContext(), "인증서를 삭제하였습니다.", Toast.LENGTH_SHORT).show();
             navigateToReturnView(false);
-            adapter.notifyItemRemoved(position);
+            delta.dispatchUpdatesTo(adapter);
+            updateEmptyView();
         };
 
         KSCertificateExt cert = getViewModel().getCertificates().get(position);
@@ -236,6 +270,66 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
                 .show();
     }
 
+    // region 일괄 삭제
+    private void toggleSelection(int position) {
+        getViewModel().toggleSelection(position);
+        adapter.notifyItemChanged(position);
+        updateDeleteSelectedButton();
+    }
+
+    private void updateDeleteSelectedButton() {
+        int count = getViewModel().getSelectionCount();
+        getBinding().deleteSelected.setVisibility(count > 0 ? View.VISIBLE : View.GONE);
+        getBinding().deleteSelected.setText(String.format("선택한 인증서 삭제 (%d)", count));
+    }
+
+    private void deleteSelectedCertificates() {
+        BiConsumer<CertificateDelta, BatchResult<String>> completion = (delta, result) -> {
+            dismissLoading();
+            delta.dispatchUpdatesTo(adapter);
+            updateEmptyView();
+            updateDeleteSelectedButton();
+
+            if (result.isAllSucceeded()) {
+                Toast.makeText(requireContext(),
+                        String.format("인증서 %d개를 삭제하였습니다.", result.getSucceeded().size()),
+                        Toast.LENGTH_SHORT).show();
+                navigateToReturnView(false);
+                return;
+            }
+
+            // 삭제에 실패한 인증서는 선택된 상태로 남겨 다시 시도할 수 있도록 함
+            adapter.notifyItemRangeChanged(0, adapter.getItemCount());
+
+            StringBuilder message = new StringBuilder(String.format("%d개 삭제, %d개 실패\n",
+                    result.getSucceeded().size(), result.getFailures().size()));
+            result.getFailures().forEach((id, e) -> {
+                KSCertificateExt cert = CloudRepository.getInstance().findById(id);
+                message.append('\n')
+                        .append(cert != null ? cert.getSubject() : id)
+                        .append(": ")
+                        .append(getExceptionMessage(e));
+            });
+
+            new AlertDialog.Builder(requireContext())
+                    .setTitle(operation.getLabel())
+                    .setMessage(message)
+                    .setPositiveButton(android.R.string.ok, null)
+                    .show();
+        };
+
+        int count = getViewModel().getSelectionCount();
+        new AlertDialog.Builder(requireActivity())
+                .setMessage(String.format("선택한 인증서 %d개를 삭제합니다.", count))
+                .setPositiveButton(android.R.string.ok, (dialog, which) -> {
+                    showLoading();
+                    getViewModel().deleteSelectedCertificates(completion, this::alertException);
+                })
+                .setNegativeButton(android.R.string.cancel, null)
+                .show();
+    }
+    // endregion
+
     private void updateCertificate(int position) {
         Consumer<Hashtable<String, Object>> completion = (ret) -> {
             dismissLoading();
@@ -255,7 +349,7 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
                 message = (String) ret.get("MESSAGE");
             }
 
-            requireActivity().runOnUiThread(() -> new AlertDialog.Builder(requireActivity())
+            new AlertDialog.Builder(requireActivity())
                     .setTitle(code)
                     .setMessage(message)
                     .setPositiveButton(android.R.string.ok, (dialog, which) -> {
@@ -264,19 +358,19 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
                             showLoading();
                             Consumer<Exception> onLoadingError = exception -> alertException(exception, operation.getLabel(), true);
 
-                            Runnable onLoadingComplete = () -> {
+                            Consumer<CertificateDelta> onLoadingComplete = delta -> {
                                 dismissLoading();
-                                adapter.notifyDataSetChanged();
+                                delta.dispatchUpdatesTo(adapter);
                             };
 
                             getViewModel().loadData(DataSource.remote, null, onLoadingComplete, onLoadingError);
                         }
                     })
-                    .show());
+                    .show();
         };
 
         Consumer<String> onPasswordAcquired = (pin) -> {
-            getViewModel().updateCertificate(position, pin, completion);
+            getViewModel().updateCertificate(position, pin, completion, this::alertException);
         };
 
         PasswordDialog.show(requireContext(),
@@ -289,12 +383,15 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
     }
 
     private void unlockCertificate(int position) {
-        Runnable completion = () -> new AlertDialog.Builder(requireContext())
-                .setMessage("인증서 잠금을 해제 하였습니다.")
-                .setPositiveButton(android.R.string.ok,
-                        (dialog, which) -> adapter.notifyItemRemoved(position))
-                .setOnDismissListener(d -> navigateToReturnView(false))
-                .show();
+        // 목록은 잠금 해제 결과를 받는 즉시 갱신 (확인 버튼을 누르지 않고 닫아도 반영되도록)
+        Consumer<CertificateDelta> completion = delta -> {
+            delta.dispatchUpdatesTo(adapter);
+            new AlertDialog.Builder(requireContext())
+                    .setMessage("인증서 잠금을 해제 하였습니다.")
+                    .setPositiveButton(android.R.string.ok, null)
+                    .setOnDismissListener(d -> navigateToReturnView(false))
+                    .show();
+        };
 
         getViewModel().unlockCertificate(position, completion, this::alertException);
     }
@@ -312,17 +409,32 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
                 }
             });
 
+            // 삭제 화면에서 길게 누르면 여러 인증서 선택
+            itemView.binding.getRoot().setOnLongClickListener(view -> {
+                int pos = itemView.getAdapterPosition();
+                if (operation != CertificateOperation.delete
+                        || pos == RecyclerView.NO_POSITION
+                        || getViewModel().isSnapshot())
+                    return false;
+
+                toggleSelection(pos);
+                return true;
+            });
+
             return itemView;
         }
 
         @Override
         public void onBindViewHolder(@NonNull CloudCertificateListFragment.ItemView holder, int position) {
-            holder.bind(getViewModel().getCertificates().get(position));
+            CertificateMetadata cert = getViewModel().getItem(position);
+            holder.bind(cert,
+                    CertificateSource.describe(CertificateSource.of(cert)),
+                    getViewModel().isSelected(position));
         }
 
         @Override
         public int getItemCount() {
-            return getViewModel().getCertificates() == null ? 0 : getViewModel().getCertificates().size();
+            return getViewModel().getItemCount();
         }
     }
 
@@ -335,30 +447,26 @@ public class CloudCertificateListFragment extends ViewModelFragment<FragmentClou
             this.binding = binding;
         }
 
-        public void bind(@NonNull KSCertificateExt cert) {
-            LocalDate dt = cert.getNotAfter()
-                    .toInstant()
-                    .atZone(ZoneId.systemDefault())
-                    .toLocalDate();
-
-            String notAfter = DateTimeFormatter
-                    .ofLocalizedDate(FormatStyle.FULL)
-                    .format(dt);
+        public void bind(@NonNull CertificateMetadata cert, @NonNull String type, boolean selected) {
+            // 만료일 정보가 없는 인증서는 "-"로 표시
+            String notAfter = "-";
+            if (cert.getNotAfter() != null) {
+                LocalDate dt = cert.getNotAfter()
+                        .toInstant()
+                        .atZone(ZoneId.systemDefault())
+                        .toLocalDate();
+
+                notAfter = DateTimeFormatter
+                        .ofLocalizedDate(FormatStyle.FULL)
+                        .format(dt);
+            }
 
             binding.setSubject(cert.getSubject());
             binding.setNotAfter(notAfter);
-            binding.setSerial(cert.getSerialInt());
-            StringBuffer sb = new StringBuffer();
-            if (cert.isCloud()) {
-                sb.append("Cloud-");
-                if (cert.isCache()) sb.append("Cache");
-                else sb.append("Server");
-
-                if (cert.isBio()) sb.append("-Bio");
-            } else sb.append("Local");
-
-            binding.setType(sb.toString());
+            binding.setSerial(cert.getSerial());
+            binding.setType(type);
             binding.setLocked(cert.isLock());
+            binding.setSelected(selected);
         }
 
         public static CloudCertificateListFragment.ItemView create(ViewGroup parent) {
@@ -19,6 +19,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.signkorea.cloud.sample.R;
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.databinding.FragmentConditionsOfUseBinding;
 import com.signkorea.cloud.sample.viewModels.InterFragmentStore;
 import com.signkorea.cloud.sample.views.base.DataBindingFragment;
@@ -26,6 +27,7 @@ import com.yettiesoft.cloud.AcknowledgeConditionsOfUseReason;
 
 import java.util.function.BiConsumer;
 
+@GenerateBindingFactory
 public class ConditionsOfUseFragment extends DataBindingFragment<FragmentConditionsOfUseBinding> {
     private BiConsumer<String, String> onAgree;
     private Runnable onCancel;
@@ -95,7 +97,7 @@ public class ConditionsOfUseFragment extends DataBindingFragment<FragmentConditi
 
         onAgree = getInterFragmentStore().remove(
             R.id.conditionsOfUseFragment,
-            InterFragmentStore.MO_API_EXECUTOR);
+            InterFragmentStore.MO_API_AGREE);
 
         onCancel = getInterFragmentStore().remove(
                 R.id.conditionsOfUseFragment,
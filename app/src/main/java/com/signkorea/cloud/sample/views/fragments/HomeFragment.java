@@ -8,10 +8,12 @@ import androidx.annotation.Nullable;
 import androidx.navigation.NavDirections;
 import androidx.navigation.Navigation;
 
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.views.base.DataBindingFragment;
 import com.signkorea.cloud.sample.databinding.FragmentHomeBinding;
 import com.signkorea.cloud.sample.enums.SignMenuType;
 
+@GenerateBindingFactory
 public class HomeFragment extends DataBindingFragment<FragmentHomeBinding> {
     @Override
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
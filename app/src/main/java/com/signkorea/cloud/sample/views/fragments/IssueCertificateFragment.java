@@ -11,6 +11,7 @@ import androidx.annotation.Nullable;
 
 import com.signkorea.certmanager.BillActivity;
 import com.signkorea.certmanager.BillParam;
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.databinding.FragmentIssueCertificateBinding;
 import com.signkorea.cloud.sample.enums.CertificateOperation;
 import com.signkorea.cloud.sample.utils.PasswordDialog;
@@ -20,6 +21,7 @@ import com.signkorea.cloud.sample.views.base.ViewModelFragment;
 import java.util.Hashtable;
 import java.util.function.Consumer;
 
+@GenerateBindingFactory
 public class IssueCertificateFragment extends ViewModelFragment<FragmentIssueCertificateBinding, IssueCertificateFragmentViewModel> {
 
     private String opp = null;
@@ -51,7 +53,7 @@ public class IssueCertificateFragment extends ViewModelFragment<FragmentIssueCer
                             .setOnDismissListener(dialog -> dismissLoading())
                             .show());
                 };
-                getViewModel().issue(completion);
+                getViewModel().issue(completion, e -> alertException(e, "인증서 발급 실패"));
             }
             // 수행을 제대로 하지 못한 경우
             else if(resultCode == Activity.RESULT_CANCELED)
@@ -93,16 +95,20 @@ public class IssueCertificateFragment extends ViewModelFragment<FragmentIssueCer
         };
 
         showLoading();
-        getViewModel().issue(completion);
+        getViewModel().issue(completion, e -> alertException(e, "인증서 발급 실패"));
     }
 
     private void savePhone () {
-        boolean ret = getViewModel().savePhone();
-        new AlertDialog.Builder(requireContext())
-            .setTitle(ret ? "휴대폰 저장 성공": "휴대폰 저장 실패")
-            .setPositiveButton(android.R.string.ok, null)
-            .show();
+        Consumer<Boolean> completion = ret -> {
+            dismissLoading();
+            new AlertDialog.Builder(requireContext())
+                .setTitle(ret ? "휴대폰 저장 성공": "휴대폰 저장 실패")
+                .setPositiveButton(android.R.string.ok, null)
+                .show();
+        };
 
+        showLoading();
+        getViewModel().savePhone(completion, e -> alertException(e, "휴대폰 저장 실패"));
     }
 
     private void saveCloud () {
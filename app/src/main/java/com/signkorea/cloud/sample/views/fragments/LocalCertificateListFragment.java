@@ -20,10 +20,14 @@ import com.lumensoft.ks.KSException;
 import com.signkorea.certmanager.BillActivity;
 import com.signkorea.cloud.Bio;
 import com.signkorea.cloud.KSCertificateExt;
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.databinding.FragmentLocalCertificateListBinding;
 import com.signkorea.cloud.sample.databinding.ItemCertificateBinding;
 import com.signkorea.cloud.sample.enums.CertificateOperation;
 import com.signkorea.cloud.sample.enums.DataSource;
+import com.signkorea.cloud.sample.models.BatchResult;
+import com.signkorea.cloud.sample.models.CertificateDelta;
+import com.signkorea.cloud.sample.models.CertificateMetadata;
 import com.signkorea.cloud.sample.utils.PasswordDialog;
 import com.signkorea.cloud.sample.viewModels.CertificateListFragmentViewModel;
 import com.signkorea.cloud.sample.viewModels.InterFragmentStore;
@@ -40,6 +44,7 @@ import java.util.Hashtable;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+@GenerateBindingFactory
 public class LocalCertificateListFragment
     extends ViewModelFragment<FragmentLocalCertificateListBinding, CertificateListFragmentViewModel> implements Bio.Callback
 {
@@ -50,13 +55,13 @@ public class LocalCertificateListFragment
     private String code = null;
     private String message = null;
 
+    @SuppressLint("NotifyDataSetChanged")
     private void refresh() {
         Consumer<Exception> onError = exception -> alertException(exception, operation.getLabel(), true);
 
-        @SuppressLint("NotifyDataSetChanged")
-        Runnable completion = () -> {
+        Consumer<CertificateDelta> completion = delta -> {
             dismissLoading();
-            adapter.notifyDataSetChanged();
+            delta.dispatchUpdatesTo(adapter);
 
             if(adapter.getItemCount() == 0)
             {
@@ -87,7 +92,22 @@ public class LocalCertificateListFragment
         // MO에서 복귀한 경우가 아닐 때만 화면/데이터 갱신
         if(getMoReturnDestinationViewId() < 0) {
             showLoading();
+            getViewModel().loadSnapshot(DataSource.local, null, () -> {
+                dismissLoading();
+                adapter.notifyDataSetChanged();     // 스냅샷 목록을 먼저 표시하고 로딩 완료 후 갱신
+            });
+
             getViewModel().loadData(DataSource.local, null, completion, onError);
+
+            // 보관 화면에서는 클라우드 목록도 동시에 조회하여 이미 클라우드에 있는 인증서 표시
+            // (로컬 목록 조회는 loadData와 하나의 SDK 호출로 합쳐짐)
+            if(operation == CertificateOperation.register)
+                getViewModel().loadCatalog(() -> adapter.notifyItemRangeChanged(0, adapter.getItemCount()),
+                        (source, e) -> {
+                            // 로컬 목록 조회 오류는 loadData에서 표시
+                            if (source == DataSource.remote)
+                                Toast.makeText(requireContext(), "클라우드 인증서 목록을 불러오지 못해 보관 여부를 표시할 수 없습니다.", Toast.LENGTH_SHORT).show();
+                        });
         }
     }
 
@@ -98,6 +118,7 @@ public class LocalCertificateListFragment
         operation = LocalCertificateListFragmentArgs.fromBundle(getArguments()).getOperation();
 
         getBinding().recyclerView.setAdapter(adapter);
+        getBinding().registerSelected.setOnClickListener(v -> registerSelectedCertificates());
     }
 
     @Override
@@ -107,9 +128,17 @@ public class LocalCertificateListFragment
     }
 
     private void onItemClick(int position) {
+        // 스냅샷 표시 중에는 인증서 목록 로딩 완료 후 선택 가능
+        if (getViewModel().isSnapshot())
+            return;
+
         switch (operation) {
             case register:
-                registerCertificate(position);
+                // 여러 인증서 선택 중이면 선택 상태만 변경
+                if (getViewModel().getSelectionCount() > 0)
+                    toggleSelection(position);
+                else
+                    registerCertificate(position);
                 break;
 
             case updateLocal:
@@ -146,7 +175,8 @@ public class LocalCertificateListFragment
                                                     requireActivity(),
                                                     certId,
                                                     new SecureData(pin.getBytes()),
-                                                    this);
+                                                    this,
+                                                    this::alertException);
                                         else {
                                             Toast.makeText(requireContext(),
                                                     "클라우드에서 인증서를 찾을 수 없습니다. 인증서를 클라우드에 다시 보관해 주세요.",
@@ -211,6 +241,75 @@ public class LocalCertificateListFragment
                 this::dismissLoading);
     }
 
+    // region 일괄 보관
+    private void toggleSelection(int position) {
+        getViewModel().toggleSelection(position);
+        adapter.notifyItemChanged(position);
+        updateRegisterSelectedButton();
+    }
+
+    private void updateRegisterSelectedButton() {
+        int count = getViewModel().getSelectionCount();
+        getBinding().registerSelected.setVisibility(count > 0 ? View.VISIBLE : View.GONE);
+        getBinding().registerSelected.setText(String.format("선택한 인증서 클라우드에 보관 (%d)", count));
+    }
+
+    private void registerSelectedCertificates() {
+        // 인증서별 진행 상황 표시 (보관된 인증서는 선택 해제)
+        BiConsumer<KSCertificateExt, BatchResult<KSCertificateExt>> onProgress = (cert, result) -> {
+            int position = getViewModel().getCertificates().indexOf(cert);
+            if (position >= 0)
+                adapter.notifyItemChanged(position);
+
+            getBinding().registerSelected.setText(String.format("클라우드에 보관 중 (%d/%d)",
+                    result.getProcessedCount(), result.getTotal()));
+        };
+
+        Consumer<BatchResult<KSCertificateExt>> completion = result -> {
+            dismissLoading();
+            updateRegisterSelectedButton();
+
+            StringBuilder message = new StringBuilder(String.format("%d개 보관, %d개 실패",
+                    result.getSucceeded().size(), result.getFailures().size()));
+            result.getFailures().forEach((cert, e) -> message.append("\n\n")
+                    .append(cert.getSubject())
+                    .append(": ")
+                    .append(e instanceof IncorrectPasscodeException
+                            ? "인증서 비밀번호가 일치하지 않습니다."
+                            : getExceptionMessage(e)));
+
+            new AlertDialog.Builder(requireContext())
+                    .setTitle(operation.getLabel())
+                    .setMessage(message)
+                    .setPositiveButton(android.R.string.ok, null)
+                    .show();
+        };
+
+        // 선택된 인증서에 같은 인증서 비밀번호와 클라우드 PIN을 사용
+        BiConsumer<String, String> onPasswordAcquired = (password, pin) -> {
+            showLoading();
+            getViewModel().registerSelectedCertificates(password, pin, onProgress, completion, e -> {
+                updateRegisterSelectedButton();
+                alertException(e, operation.getLabel());
+            });
+        };
+
+        PasswordDialog.show(requireContext(),
+                operation.getLabel(),
+                false,
+                false,
+                "",
+                password -> PasswordDialog.show(requireContext(),
+                                                operation.getLabel(),
+                                                true,
+                                                true,
+                                                "",
+                                                pin -> onPasswordAcquired.accept(password, pin),
+                                                this::dismissLoading),
+                this::dismissLoading);
+    }
+    // endregion
+
     @Override
     protected void alertException(@NonNull Exception exception) {
         super.alertException(exception, operation.getLabel());
@@ -226,7 +325,7 @@ public class LocalCertificateListFragment
             else
                 message = (String) ret.get("MESSAGE");
 
-            requireActivity().runOnUiThread(() -> new AlertDialog.Builder(requireActivity())
+            new AlertDialog.Builder(requireActivity())
                 .setTitle(code)
                 .setMessage(message)
                 .setPositiveButton(android.R.string.ok, (dialog, which) -> {
@@ -235,9 +334,9 @@ public class LocalCertificateListFragment
                         showLoading();
                         Consumer<Exception> onLoadingError = exception -> alertException(exception, operation.getLabel(), true);
 
-                        Runnable onLoadingComplete = () -> {
+                        Consumer<CertificateDelta> onLoadingComplete = delta -> {
                             dismissLoading();
-                            adapter.notifyDataSetChanged();
+                            delta.dispatchUpdatesTo(adapter);
                         };
 
                         getViewModel().loadData(
@@ -247,11 +346,11 @@ public class LocalCertificateListFragment
                                 onLoadingError);
                     }
                 })
-                .show());
+                .show();
         };
 
         Consumer<String> onPasswordAcquired = (pin) -> {
-            getViewModel().updateCertificate(position, pin, completion);
+            getViewModel().updateCertificate(position, pin, completion, this::alertException);
         };
 
         showLoading();
@@ -277,17 +376,31 @@ public class LocalCertificateListFragment
                 }
             });
 
+            // 보관 화면에서 길게 누르면 여러 인증서 선택
+            itemView.binding.getRoot().setOnLongClickListener(view -> {
+                int pos = itemView.getAdapterPosition();
+                if (operation != CertificateOperation.register
+                        || pos == RecyclerView.NO_POSITION
+                        || getViewModel().isSnapshot())
+                    return false;
+
+                toggleSelection(pos);
+                return true;
+            });
+
             return itemView;
         }
 
         @Override
         public void onBindViewHolder(@NonNull ItemView holder, int position) {
-            holder.bind(getViewModel().getCertificates().get(position));
+            holder.bind(getViewModel().getItem(position),
+                    getViewModel().getSourceLabel(position),
+                    getViewModel().isSelected(position));
         }
 
         @Override
         public int getItemCount() {
-            return getViewModel().getCertificates() == null ? 0 : getViewModel().getCertificates().size();
+            return getViewModel().getItemCount();
         }
     }
 
@@ -300,30 +413,26 @@ public class LocalCertificateListFragment
             this.binding = binding;
         }
 
-        public void bind(@NonNull KSCertificateExt cert) {
-            LocalDate dt = cert.getNotAfter()
-                .toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDate();
-
-            String notAfter = DateTimeFormatter
-                .ofLocalizedDate(FormatStyle.FULL)
-                .format(dt);
+        public void bind(@NonNull CertificateMetadata cert, @NonNull String type, boolean selected) {
+            // 만료일 정보가 없는 인증서는 "-"로 표시
+            String notAfter = "-";
+            if (cert.getNotAfter() != null) {
+                LocalDate dt = cert.getNotAfter()
+                    .toInstant()
+                    .atZone(ZoneId.systemDefault())
+                    .toLocalDate();
+
+                notAfter = DateTimeFormatter
+                    .ofLocalizedDate(FormatStyle.FULL)
+                    .format(dt);
+            }
 
             binding.setSubject(cert.getSubject());
             binding.setNotAfter(notAfter);
-            binding.setSerial(cert.getSerialInt());
-            StringBuffer sb = new StringBuffer();
-            if (cert.isCloud()) {
-                sb.append("Cloud-");
-                if (cert.isCache()) sb.append("Cache");
-                else sb.append("Server");
-
-                if (cert.isBio()) sb.append("-Bio");
-            } else sb.append("Local");
-
-            binding.setType(sb.toString());
+            binding.setSerial(cert.getSerial());
+            binding.setType(type);
             binding.setLocked(cert.isLock());
+            binding.setSelected(selected);
         }
 
         public static ItemView create(ViewGroup parent) {
@@ -378,8 +487,8 @@ public class LocalCertificateListFragment
     @Override
     public void onActivityResult(int requestCode, int resultCode, Intent data) {
         if(requestCode == BillActivity.ID) {
-            String useAction;
-            String discardAction;
+            InterFragmentStore.Key<Runnable> useAction;
+            InterFragmentStore.Key<Runnable> discardAction;
             if(resultCode == Activity.RESULT_OK){
                 useAction = InterFragmentStore.BILL_ACTION_COMPLETE;
                 discardAction = InterFragmentStore.BILL_ACTION_CANCEL;
@@ -388,7 +497,7 @@ public class LocalCertificateListFragment
                 useAction = InterFragmentStore.BILL_ACTION_CANCEL;
                 discardAction = InterFragmentStore.BILL_ACTION_COMPLETE;
             }
-            getInterFragmentStore().<Runnable>remove(useAction).run();
+            getInterFragmentStore().remove(useAction).run();
             getInterFragmentStore().remove(discardAction);
         }
         else
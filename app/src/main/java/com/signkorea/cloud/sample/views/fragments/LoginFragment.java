@@ -16,19 +16,29 @@ import com.lumensoft.ks.KSException;
 import com.lumensoft.ks.KSSign;
 import com.signkorea.cloud.Bio;
 import com.signkorea.cloud.KSCertificateExt;
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.databinding.FragmentLoginBinding;
 import com.signkorea.cloud.sample.enums.CertificateOperation;
 import com.signkorea.cloud.sample.enums.SignMenuType;
+import com.signkorea.cloud.sample.models.CertificateDelta;
 import com.signkorea.cloud.sample.models.CloudRepository;
+import com.signkorea.cloud.sample.models.LocalRepository;
+import com.signkorea.cloud.sample.models.OrderSigningEngine;
+import com.signkorea.cloud.sample.models.RepositoryFuture;
 import com.signkorea.cloud.sample.utils.PasswordDialog;
 import com.signkorea.cloud.sample.views.base.DataBindingFragment;
 import com.signkorea.securedata.ProtectedData;
 import com.signkorea.securedata.SecureData;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.function.Consumer;
 
+@GenerateBindingFactory
 public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> implements Bio.Callback{
     private CloudRepository cloudRepo = CloudRepository.getInstance();
+    private LocalRepository localRepo = LocalRepository.getInstance();
 
     @Nullable
     private KSCertificateExt selectedCert = null;
@@ -38,6 +48,9 @@ public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> imp
 
     private Bio bio = null;
 
+    // 진행 중인 서명 (화면을 벗어나면 취소)
+    private final List<RepositoryFuture<?>> pending = new ArrayList<>();
+
     @Override
     public void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -60,8 +73,11 @@ public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> imp
         getBinding().getRandom.setOnClickListener(view1 -> sign(Bio.OPERATION.GETRANDOM));
         getBinding().deleteBio.setOnClickListener(view1 -> removeBio());
 
-        bio = new Bio(requireActivity(), cloudRepo.getCertMgr());
-        bio.setCallback(this);
+        // 인증서 관리자 초기화 후 생체 인증 준비 (초기화 오류는 목록 조회 시 표시)
+        track(cloudRepo.getCertMgrAsync()).whenComplete(certMgr -> {
+            bio = new Bio(requireActivity(), certMgr);
+            bio.setCallback(this);
+        }, e -> Log.w(TAG, "생체 인증 준비 실패", e));
 
         // MO에서 복귀한 경우 중복 호출 방지
         // MO에서 복귀한 경우가 아닐 때만 화면/데이터 갱신
@@ -69,40 +85,41 @@ public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> imp
             refresh();
     }
 
+    // 백그라운드 재조회 등으로 클라우드 인증서 목록이 변경된 경우 선택 인증서 정보 반영
+    private final Consumer<CertificateDelta> onCertificatesChanged = delta -> {
+        selectedCert = cloudRepo.getSelectedCert();
+        updateView();
+    };
+
+    @Override
+    public void onResume() {
+        super.onResume();
+        cloudRepo.addCertificatesObserver(onCertificatesChanged);
+    }
+
+    @Override
+    public void onPause() {
+        super.onPause();
+        cloudRepo.removeCertificatesObserver(onCertificatesChanged);
+    }
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        for (RepositoryFuture<?> future : new ArrayList<>(pending))
+            future.cancel();
+    }
+
+    private <T> RepositoryFuture<T> track(RepositoryFuture<T> future) {
+        pending.add(future);
+        return future.whenComplete(ignored -> pending.remove(future), ignored -> pending.remove(future));
+    }
+
     private void refresh() {
         Runnable refreshUI = () -> {
             navigateToReturnView(false);        // MO 처리 후 복귀한 경우 MO완료 후 대상 화면으로 이동
             dismissLoading();
-
-            menuType = LoginFragmentArgs.fromBundle(getArguments()).getSignMenuType();
-            switch(menuType) {
-                case LOGIN:
-                    getBinding().koscomCmsSign.setVisibility(View.VISIBLE);
-                    getBinding().koscomCmsSign.setText("로그인 서명");
-                    break;
-
-                case ORDER:
-                    getBinding().koscomBriefSign.setVisibility(View.VISIBLE);
-                    break;
-
-                case REGISTER:
-                    getBinding().koscomCmsSign.setVisibility(View.VISIBLE);
-                    getBinding().getRandom.setVisibility(View.VISIBLE);
-                    getBinding().koscomCmsSign.setText("서명 데이터 생성");
-                    break;
-            }
-
-            if(selectedCert == null) {
-                getBinding().authTypeBtnPin.setVisibility(View.INVISIBLE);
-                getBinding().deleteBio.setVisibility(View.INVISIBLE);
-            } else {
-                getBinding().selectdnText.setText(selectedCert.getSubject());
-                getBinding().authTypeBtnPin.setVisibility(View.VISIBLE);
-                if(selectedCert.isCloud() && bio.isBio(selectedCert.getId())) {
-                    getBinding().deleteBio.setVisibility(View.VISIBLE);
-                    getBinding().authTypeBtnFinger.setVisibility(View.VISIBLE);
-                }
-            }
+            updateView();
         };
 
         Consumer<Exception> onError = e -> {
@@ -124,6 +141,38 @@ public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> imp
         }
     }
 
+    private void updateView() {
+        menuType = LoginFragmentArgs.fromBundle(getArguments()).getSignMenuType();
+        switch(menuType) {
+            case LOGIN:
+                getBinding().koscomCmsSign.setVisibility(View.VISIBLE);
+                getBinding().koscomCmsSign.setText("로그인 서명");
+                break;
+
+            case ORDER:
+                getBinding().koscomBriefSign.setVisibility(View.VISIBLE);
+                break;
+
+            case REGISTER:
+                getBinding().koscomCmsSign.setVisibility(View.VISIBLE);
+                getBinding().getRandom.setVisibility(View.VISIBLE);
+                getBinding().koscomCmsSign.setText("서명 데이터 생성");
+                break;
+        }
+
+        if(selectedCert == null) {
+            getBinding().authTypeBtnPin.setVisibility(View.INVISIBLE);
+            getBinding().deleteBio.setVisibility(View.INVISIBLE);
+        } else {
+            getBinding().selectdnText.setText(selectedCert.getSubject());
+            getBinding().authTypeBtnPin.setVisibility(View.VISIBLE);
+            if(selectedCert.isCloud() && isBio(selectedCert.getId())) {
+                getBinding().deleteBio.setVisibility(View.VISIBLE);
+                getBinding().authTypeBtnFinger.setVisibility(View.VISIBLE);
+            }
+        }
+    }
+
     private void sign(Bio.OPERATION type) {
         if(selectedCert == null) {
             Toast.makeText(requireContext(), "인증서 선택 후 진행해주세요.", Toast.LENGTH_SHORT).show();
@@ -137,7 +186,7 @@ public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> imp
         if (selectedCert.isCloud()) {
             if(getBinding().authTypeBtnFinger.isChecked())
             {
-                if (bio.isBio(selectedCert.getId())) {
+                if (isBio(selectedCert.getId())) {
                     showLoading();
                     bio.getBioCloud(selectedCert.getId(), type);
                 } else {
@@ -187,9 +236,14 @@ public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> imp
             return;
         }
 
+        byte[] plain = "sign plain".getBytes();
+
+        // 화면을 벗어나 취소해도 진행 중인 서명은 PIN을 계속 사용하므로
+        // PIN은 결과 콜백이 아니라 서명 호출이 실제로 끝난 후(onFinished) 해제
+        Runnable clearPin = encryptedPin::clear;
+
         Consumer<byte[]> completion = signature -> {
             dismissLoading();
-            encryptedPin.clear();
             new AlertDialog.Builder(requireContext())
                     .setTitle("클라우드 전자서명 성공")
                     .setMessage(Base64.encodeToString(signature, Base64.NO_WRAP))
@@ -200,7 +254,6 @@ public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> imp
 
         Consumer<byte[]> getRandomCompletion = random -> {
             dismissLoading();
-            encryptedPin.clear();
             new AlertDialog.Builder(requireContext())
                     .setTitle("R 값 획득 성공")
                     .setMessage(Base64.encodeToString(random, Base64.NO_WRAP))
@@ -210,31 +263,33 @@ public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> imp
         };
 
         Consumer<Exception> onError = exception -> {
-            encryptedPin.clear();
+            if (exception instanceof CancellationException) {
+                dismissLoading();
+                return;
+            }
             alertException(exception, operation.getLabel(), false);
         };
 
-        byte[] plain = "sign plain".getBytes();
-
         showLoading();
         switch (type) {
             case KOSCOMCMSSIGN:
-                cloudRepo.getCertMgr().koscomCMSSign(selectedCert.getId(), plain, encryptedPin, completion, onError);
+                track(cloudRepo.koscomCMSSignAsync(selectedCert.getId(), plain, encryptedPin, clearPin)).whenComplete(completion, onError);
                 break;
 
             case KOSCOMBRIEFSIGN:
-                try {
-                    // 로그인 후 세션이 유효한 동안은 캐시를 통해 축약서명을 생성합니다.
-                    byte[] sign = cloudRepo.getCertMgr().koscomBriefSignCache(selectedCert.getId(), plain, encryptedPin);
-                    completion.accept(sign);
-                }
-                catch(Exception e) {
-                    onError.accept(e);
-                }
+                // 로그인 후 세션이 유효한 동안은 캐시를 통해 축약서명을 생성합니다.
+                // 캐시에 인증서가 없으면 PIN을 다시 입력받지 않고 서버 서명으로 대체합니다.
+                // 주문 서명은 메인 스레드가 아닌 주문 서명 전용 스레드에서 처리합니다.
+                track(OrderSigningEngine.getInstance().submit(selectedCert.getId(), "sign plain", encryptedPin, clearPin))
+                        .whenComplete(result -> {
+                            if (!result.second)
+                                Log.i(TAG, "축약서명 캐시 없음, 서버 서명(CMS)으로 대체됨");
+                            completion.accept(result.first);
+                        }, onError);
                 break;
 
             case GETRANDOM:
-                cloudRepo.getCertMgr().getRandom(selectedCert.getId(), encryptedPin, getRandomCompletion, onError);
+                track(cloudRepo.getRandomAsync(selectedCert.getId(), encryptedPin, clearPin)).whenComplete(getRandomCompletion, onError);
                 break;
 
             default:
@@ -251,38 +306,48 @@ public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> imp
 
         byte[] plain = "sign plain".getBytes();
 
-        byte[] signature = null;
-        try {
-            switch (type) {
-                case KOSCOMCMSSIGN:
-                    signature = KSSign.sign(KSSign.KOSCOM, selectedCert.cert, plain, encryptedPin);
-                    break;
+        int signType;
+        switch (type) {
+            case KOSCOMCMSSIGN:
+                signType = KSSign.KOSCOM;
+                break;
 
-                case KOSCOMBRIEFSIGN:
-                    signature = KSSign.sign(KSSign.KOSCOM_BRIEF, selectedCert.cert, plain, encryptedPin);
-                    break;
+            case KOSCOMBRIEFSIGN:
+                signType = KSSign.KOSCOM_BRIEF;
+                break;
 
-                default:
-                    assert false: "unknown sign type.";
-                    break;
-            }
+            default:
+                assert false: "unknown sign type.";
+                return;
+        }
 
+        showLoading();
+        // 화면을 벗어나면 서명 취소 (취소된 서명은 결과를 표시하지 않음)
+        // 실행 중인 KSSign.sign은 취소해도 계속 진행되므로 PIN은 서명이 끝난 후 해제
+        track(localRepo.signAsync(selectedCert, signType, plain, encryptedPin, encryptedPin::clear)).whenComplete(signature -> {
+            dismissLoading();
             new AlertDialog.Builder(requireContext())
                     .setTitle("로컬 전자서명 성공")
                     .setMessage(Base64.encodeToString(signature, Base64.NO_WRAP))
                     .setPositiveButton(android.R.string.ok, (dialog, which) -> {})
                     .show();
             Log.d(TAG, Base64.encodeToString(signature, Base64.NO_WRAP));
+        }, e -> {
+            dismissLoading();
+            if (e instanceof CancellationException)
+                return;
 
-        } catch (KSException e) {
             new AlertDialog.Builder(requireContext())
                     .setTitle("로컬 전자서명 실패")
                     .setMessage(e.getMessage())
                     .setPositiveButton(android.R.string.ok, (dialog, which) -> {})
                     .show();
-        } finally {
-            encryptedPin.clear();
-        }
+        });
+    }
+
+    // 인증서 관리자 초기화 전에는 생체 인증 미등록으로 처리
+    private boolean isBio(String id) {
+        return bio != null && bio.isBio(id);
     }
 
     private void removeBio() {
@@ -293,7 +358,7 @@ public class LoginFragment extends DataBindingFragment<FragmentLoginBinding> imp
 
         String title = "생체 인증 삭제", message = null;
         String id = selectedCert.getCertInfo().getId();
-        if (bio.isBio(id)) {
+        if (isBio(id)) {
             bio.removeBioCloud(id);
             getBinding().authTypeBtnFinger.setVisibility(View.INVISIBLE);
             message = "등록된 생체 인증을 삭제하였습니다.";
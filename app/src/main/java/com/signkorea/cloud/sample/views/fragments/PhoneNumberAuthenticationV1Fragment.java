@@ -10,6 +10,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.signkorea.cloud.sample.R;
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.databinding.FragmentPhoneNumberAuthenticationV1Binding;
 import com.signkorea.cloud.sample.viewModels.InterFragmentStore;
 import com.signkorea.cloud.sample.views.base.DataBindingFragment;
@@ -18,6 +19,7 @@ import com.yettiesoft.cloud.PhoneNumberProofTransaction;
 import java.util.Timer;
 import java.util.TimerTask;
 
+@GenerateBindingFactory
 public class PhoneNumberAuthenticationV1Fragment extends DataBindingFragment<FragmentPhoneNumberAuthenticationV1Binding> {
     private PhoneNumberProofTransaction transaction;
     private Runnable onCancel;
@@ -43,7 +45,7 @@ public class PhoneNumberAuthenticationV1Fragment extends DataBindingFragment<Fra
 
         transaction = getInterFragmentStore().remove(
             R.id.phoneNumberAuthenticationV1Fragment,
-            InterFragmentStore.MO_API_EXECUTOR);
+            InterFragmentStore.MO_API_TRANSACTION);
 
         onCancel = getInterFragmentStore().remove(
                 R.id.phoneNumberAuthenticationV1Fragment,
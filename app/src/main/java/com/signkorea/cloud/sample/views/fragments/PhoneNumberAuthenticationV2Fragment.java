@@ -14,6 +14,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.signkorea.cloud.sample.R;
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.databinding.FragmentPhoneNumberAuthenticationV2Binding;
 import com.signkorea.cloud.sample.viewModels.InterFragmentStore;
 import com.signkorea.cloud.sample.views.base.DataBindingFragment;
@@ -22,6 +23,7 @@ import com.yettiesoft.cloud.PhoneNumberProofTransaction;
 import java.util.Timer;
 import java.util.TimerTask;
 
+@GenerateBindingFactory
 public class PhoneNumberAuthenticationV2Fragment extends DataBindingFragment<FragmentPhoneNumberAuthenticationV2Binding> {
     private PhoneNumberProofTransaction transaction;
     private Runnable onCancel;
@@ -44,7 +46,7 @@ public class PhoneNumberAuthenticationV2Fragment extends DataBindingFragment<Fra
 
         transaction = getInterFragmentStore().remove(
             R.id.phoneNumberAuthenticationV2Fragment,
-            InterFragmentStore.MO_API_EXECUTOR);
+            InterFragmentStore.MO_API_TRANSACTION);
 
         onCancel = getInterFragmentStore().remove(
                 R.id.phoneNumberAuthenticationV2Fragment,
@@ -9,6 +9,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.signkorea.cloud.sample.R;
+import com.signkorea.cloud.sample.binding.GenerateBindingFactory;
 import com.signkorea.cloud.sample.databinding.FragmentUserInfoFormBinding;
 import com.signkorea.cloud.sample.utils.SimpleSharedPreferences;
 import com.signkorea.cloud.sample.viewModels.InterFragmentStore;
@@ -20,6 +21,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+@GenerateBindingFactory
 public class UserInfoFormFragment extends ViewModelFragment<FragmentUserInfoFormBinding, UserInfoFormFragmentViewModel> {
     private Runnable onCancel;
 
@@ -47,7 +49,7 @@ public class UserInfoFormFragment extends ViewModelFragment<FragmentUserInfoForm
 
         Client.UserInfoAcceptor userInfoAcceptor = getInterFragmentStore().remove(
                 R.id.userInfoFormFragment,
-                InterFragmentStore.MO_API_EXECUTOR);
+                InterFragmentStore.MO_API_USER_INFO);
 
         // 확인
         getBinding().confirmButton.setOnClickListener(button -> {
@@ -0,0 +1,165 @@
+package com.signkorea.cloud.sample.models;
+
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CertificateDeltaTest {
+    private static final Date NOT_AFTER = new Date(1_900_000_000_000L);
+
+    private static CertificateMetadata cert(String id) {
+        return new CertificateMetadata(id, "cn=" + id, NOT_AFTER, id + "-serial", true, false, false, false);
+    }
+
+    private static CertificateMetadata locked(String id) {
+        return new CertificateMetadata(id, "cn=" + id, NOT_AFTER, id + "-serial", true, false, false, true);
+    }
+
+    private static CertificateMetadata local(String subject, String serial) {
+        return new CertificateMetadata(null, subject, NOT_AFTER, serial, false, false, false, false);
+    }
+
+    // 변경 내역을 이전 목록에 적용하며 호출 순서 기록 (R: 삭제, I: 추가, M: 이동, C: 변경)
+    private static class Recorder implements ListUpdateCallback {
+        final List<CertificateMetadata> items;
+        final List<CertificateMetadata> current;
+        final StringBuilder ops = new StringBuilder();
+        final List<Integer> changed = new ArrayList<>();
+
+        Recorder(List<CertificateMetadata> previous, List<CertificateMetadata> current) {
+            this.items = new ArrayList<>(previous);
+            this.current = current;
+        }
+
+        @Override
+        public void onInserted(int position, int count) {
+            ops.append('I');
+            for (int i = 0; i < count; i++)
+                items.add(position + i, current.get(position + i));
+        }
+
+        @Override
+        public void onRemoved(int position, int count) {
+            ops.append('R');
+            for (int i = 0; i < count; i++)
+                items.remove(position);
+        }
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {
+            ops.append('M');
+            items.add(toPosition, items.remove(fromPosition));
+        }
+
+        @Override
+        public void onChanged(int position, int count, Object payload) {
+            ops.append('C');
+            for (int i = 0; i < count; i++) {
+                changed.add(position + i);
+                items.set(position + i, current.get(position + i));
+            }
+        }
+    }
+
+    // 항목 비교용 표현 (CertificateMetadata는 equals를 구현하지 않음)
+    private static List<String> describe(List<CertificateMetadata> certs) {
+        List<String> descriptions = new ArrayList<>(certs.size());
+        for (CertificateMetadata cert : certs)
+            descriptions.add(cert.getSubject() + "#" + cert.getSerial() + (cert.isLock() ? "#lock" : ""));
+        return descriptions;
+    }
+
+    private static Recorder apply(List<CertificateMetadata> previous, List<CertificateMetadata> current) {
+        Recorder recorder = new Recorder(previous, current);
+        CertificateDelta.between(previous, current).dispatchUpdatesTo(recorder);
+        return recorder;
+    }
+
+    @Test
+    public void sameListHasNoChanges() {
+        List<CertificateMetadata> certs = Arrays.asList(cert("a"), cert("b"));
+
+        assertTrue(CertificateDelta.between(certs, Arrays.asList(cert("a"), cert("b"))).isEmpty());
+    }
+
+    @Test
+    public void mixedChangesTransformPreviousIntoCurrent() {
+        List<CertificateMetadata> previous = Arrays.asList(cert("a"), cert("b"), cert("c"), cert("d"), cert("e"));
+        List<CertificateMetadata> current = Arrays.asList(cert("e"), cert("a"), cert("x"), cert("c"), locked("b"));
+
+        Recorder recorder = apply(previous, current);
+
+        assertEquals(describe(current), describe(recorder.items));
+        assertEquals(Arrays.asList(4), recorder.changed);
+    }
+
+    @Test
+    public void removalsComeFirstAndChangesLast() {
+        List<CertificateMetadata> previous = Arrays.asList(cert("a"), cert("b"), cert("c"), cert("d"));
+        List<CertificateMetadata> current = Arrays.asList(cert("d"), locked("a"), cert("x"));
+
+        Recorder recorder = apply(previous, current);
+
+        assertTrue(recorder.ops.toString(), recorder.ops.toString().matches("R+[IM]+C+"));
+        assertEquals(describe(current), describe(recorder.items));
+    }
+
+    @Test
+    public void removalsAreDescending() {
+        CertificateDelta delta = CertificateDelta.between(
+                Arrays.asList(cert("a"), cert("b"), cert("c"), cert("d")),
+                Arrays.asList(cert("b"), cert("d")));
+
+        assertEquals(Arrays.asList(2, 0), delta.getRemoved());
+        assertTrue(delta.getInserted().isEmpty());
+        assertTrue(delta.getMoved().isEmpty());
+    }
+
+    @Test
+    public void certificatesWithoutIdAreMatchedBySubjectAndSerial() {
+        List<CertificateMetadata> previous = Arrays.asList(local("cn=kim", "1"), local("cn=lee", "2"));
+        List<CertificateMetadata> current = Arrays.asList(local("cn=lee", "2"), local("cn=kim", "1"));
+
+        CertificateDelta delta = CertificateDelta.between(previous, current);
+
+        assertTrue(delta.getRemoved().isEmpty());
+        assertTrue(delta.getInserted().isEmpty());
+        assertEquals(1, delta.getMoved().size());
+        assertEquals(describe(current), describe(apply(previous, current).items));
+    }
+
+    @Test
+    public void duplicateCertificatesAreCountedSeparately() {
+        List<CertificateMetadata> previous = Arrays.asList(local("cn=kim", "1"), local("cn=kim", "1"));
+        List<CertificateMetadata> current = Arrays.asList(local("cn=kim", "1"));
+
+        CertificateDelta delta = CertificateDelta.between(previous, current);
+
+        assertFalse(delta.isEmpty());
+        assertEquals(Arrays.asList(1), delta.getRemoved());
+        assertEquals(describe(current), describe(apply(previous, current).items));
+    }
+
+    @Test
+    public void certificatesWithMissingFieldsAreCompared() {
+        CertificateMetadata missing = new CertificateMetadata("a", null, null, null, true, false, false, false);
+        List<CertificateMetadata> previous = Arrays.asList(missing, cert("b"));
+        List<CertificateMetadata> current = Arrays.asList(
+                new CertificateMetadata("a", null, null, null, true, false, false, false), locked("b"));
+
+        CertificateDelta delta = CertificateDelta.between(previous, current);
+
+        assertTrue(delta.getRemoved().isEmpty());
+        assertTrue(delta.getInserted().isEmpty());
+        assertEquals(Arrays.asList(1), delta.getChanged());
+    }
+}
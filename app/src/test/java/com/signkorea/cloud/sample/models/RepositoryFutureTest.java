@@ -0,0 +1,268 @@
+package com.signkorea.cloud.sample.models;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class RepositoryFutureTest {
+    // region 완료/실패
+    @Test
+    public void resultReachesCallbacksRegisteredBeforeAndAfterCompletion() {
+        RepositoryFuture<String> future = new RepositoryFuture<>();
+        List<String> results = new ArrayList<>();
+
+        future.whenComplete(results::add, e -> {});
+        assertTrue(future.complete("signed"));
+        future.whenComplete(results::add, e -> {});
+
+        assertEquals(Arrays.asList("signed", "signed"), results);
+    }
+
+    @Test
+    public void onlyFirstOutcomeIsDelivered() {
+        RepositoryFuture<String> future = new RepositoryFuture<>();
+        List<Object> outcomes = new ArrayList<>();
+        future.whenComplete(outcomes::add, outcomes::add);
+
+        assertTrue(future.complete("first"));
+        assertFalse(future.complete("second"));
+        assertFalse(future.fail(new IllegalStateException()));
+
+        assertEquals(Arrays.<Object>asList("first"), outcomes);
+    }
+
+    @Test
+    public void thenApplyFailsWhenMappingThrows() {
+        RuntimeException error = new IllegalStateException("mapping");
+        List<Exception> errors = new ArrayList<>();
+
+        RepositoryFuture.completed("plain")
+                .thenApply(value -> { throw error; })
+                .whenComplete(ignored -> {}, errors::add);
+
+        assertEquals(1, errors.size());
+        assertSame(error, errors.get(0));
+    }
+    // endregion
+
+    // region 취소
+    @Test
+    public void cancelFailsWithCancellationExceptionAndRunsHooks() {
+        RepositoryFuture<String> future = new RepositoryFuture<>();
+        List<Exception> errors = new ArrayList<>();
+        boolean[] hookRun = { false };
+        future.onCancel(() -> hookRun[0] = true);
+        future.whenComplete(ignored -> {}, errors::add);
+
+        assertTrue(future.cancel());
+
+        assertTrue(future.isCancelled());
+        assertTrue(hookRun[0]);
+        assertTrue(errors.get(0) instanceof CancellationException);
+        // 취소 이후 도착한 SDK 결과는 무시
+        assertFalse(future.complete("late"));
+    }
+
+    @Test
+    public void hookRegisteredAfterCancelRunsImmediately() {
+        RepositoryFuture<String> future = new RepositoryFuture<>();
+        future.cancel();
+
+        boolean[] hookRun = { false };
+        future.onCancel(() -> hookRun[0] = true);
+
+        assertTrue(hookRun[0]);
+    }
+
+    @Test
+    public void failureDoesNotRunCancelHooks() {
+        RepositoryFuture<String> future = new RepositoryFuture<>();
+        boolean[] hookRun = { false };
+        future.onCancel(() -> hookRun[0] = true);
+
+        future.fail(new IllegalStateException());
+
+        assertFalse(hookRun[0]);
+        assertFalse(future.isCancelled());
+    }
+
+    @Test
+    public void cancellingComposedFutureCancelsRunningCall() {
+        RepositoryFuture<Void> ready = new RepositoryFuture<>();
+        RepositoryFuture<String> call = new RepositoryFuture<>();
+        RepositoryFuture<String> composed = ready.thenCompose(ignored -> call);
+
+        ready.complete(null);
+        composed.cancel();
+
+        assertTrue(call.isCancelled());
+    }
+
+    @Test
+    public void cancellingComposedFutureBeforeStartCancelsPreviousStep() {
+        RepositoryFuture<Void> ready = new RepositoryFuture<>();
+        boolean[] started = { false };
+        RepositoryFuture<String> composed = ready.thenCompose(ignored -> {
+            started[0] = true;
+            return new RepositoryFuture<>();
+        });
+
+        composed.cancel();
+
+        assertTrue(ready.isCancelled());
+        assertFalse(started[0]);
+    }
+    // endregion
+
+    // region allOf
+    @Test
+    public void allOfCompletesAfterEveryFuture() {
+        RepositoryFuture<String> first = new RepositoryFuture<>();
+        RepositoryFuture<String> second = new RepositoryFuture<>();
+        RepositoryFuture<Void> all = RepositoryFuture.allOf(Arrays.asList(first, second));
+
+        first.complete("a");
+        assertFalse(all.isDone());
+        second.complete("b");
+
+        assertTrue(all.isDone());
+        assertFalse(all.isCancelled());
+    }
+
+    @Test
+    public void allOfOfNothingCompletesImmediately() {
+        assertTrue(RepositoryFuture.allOf(new ArrayList<RepositoryFuture<?>>()).isDone());
+    }
+
+    @Test
+    public void allOfFailsOnFirstFailureAndCancelsTheRest() {
+        RepositoryFuture<String> first = new RepositoryFuture<>();
+        RepositoryFuture<String> second = new RepositoryFuture<>();
+        RepositoryFuture<Void> all = RepositoryFuture.allOf(Arrays.asList(first, second));
+        Exception error = new IllegalStateException("delete failed");
+        Exception[] reported = { null };
+        all.whenComplete(ignored -> {}, e -> reported[0] = e);
+
+        first.fail(error);
+
+        assertSame(error, reported[0]);
+        assertTrue(second.isCancelled());
+    }
+
+    @Test
+    public void cancellingAllOfCancelsEveryFuture() {
+        RepositoryFuture<String> first = new RepositoryFuture<>();
+        RepositoryFuture<String> second = new RepositoryFuture<>();
+        RepositoryFuture<Void> all = RepositoryFuture.allOf(Arrays.asList(first, second));
+
+        all.cancel();
+
+        assertTrue(first.isCancelled());
+        assertTrue(second.isCancelled());
+    }
+    // endregion
+
+    // region forEach
+    // 항목별로 진행 중인 호출 (완료는 테스트에서 직접 처리)
+    private final Map<String, RepositoryFuture<Void>> running = new LinkedHashMap<>();
+
+    private RepositoryFuture<?> start(String key) {
+        RepositoryFuture<Void> future = new RepositoryFuture<>();
+        running.put(key, future);
+        return future;
+    }
+
+    @Test
+    public void forEachRunsAtMostConcurrencyCallsAtOnce() {
+        RepositoryFuture<BatchResult<String>> all =
+                RepositoryFuture.forEach(Arrays.asList("a", "b", "c", "d"), 2, this::start, null);
+
+        assertEquals(Arrays.asList("a", "b"), new ArrayList<>(running.keySet()));
+
+        running.get("b").complete(null);
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(running.keySet()));
+
+        running.get("a").complete(null);
+        running.get("c").complete(null);
+        assertFalse(all.isDone());
+        running.get("d").complete(null);
+
+        assertTrue(all.isDone());
+    }
+
+    @Test
+    public void forEachContinuesAfterFailureAndReportsEachItem() {
+        Exception error = new IllegalStateException("locked");
+        List<String> progress = new ArrayList<>();
+        List<BatchResult<String>> results = new ArrayList<>();
+
+        RepositoryFuture.forEach(Arrays.asList("a", "b", "c"), 1,
+                key -> "b".equals(key) ? RepositoryFuture.failed(error) : RepositoryFuture.completed(null),
+                (key, result) -> progress.add(key + ":" + result.getProcessedCount()))
+                .whenComplete(results::add, e -> {});
+
+        assertEquals(Arrays.asList("a:1", "b:2", "c:3"), progress);
+        BatchResult<String> result = results.get(0);
+        assertEquals(Arrays.asList("a", "c"), result.getSucceeded());
+        assertSame(error, result.getFailures().get("b"));
+        assertFalse(result.isAllSucceeded());
+    }
+
+    @Test
+    public void forEachTreatsThrowingCallAsItemFailure() {
+        List<BatchResult<String>> results = new ArrayList<>();
+
+        RepositoryFuture.<String>forEach(Arrays.asList("a", "b"), 2,
+                key -> { throw new IllegalArgumentException(key); }, null)
+                .whenComplete(results::add, e -> {});
+
+        assertEquals(2, results.get(0).getFailures().size());
+    }
+
+    @Test
+    public void cancellingForEachCancelsRunningCallsAndStopsTheRest() {
+        RepositoryFuture<BatchResult<String>> all =
+                RepositoryFuture.forEach(Arrays.asList("a", "b", "c"), 2, this::start, null);
+
+        all.cancel();
+
+        assertTrue(running.get("a").isCancelled());
+        assertTrue(running.get("b").isCancelled());
+        assertFalse(running.containsKey("c"));
+    }
+
+    @Test
+    public void forEachOfNothingCompletesImmediately() {
+        RepositoryFuture<BatchResult<String>> all =
+                RepositoryFuture.forEach(new ArrayList<String>(), 2, this::start, null);
+
+        assertTrue(all.isDone());
+    }
+
+    @Test
+    public void forEachRejectsConcurrencyBelowOne() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RepositoryFuture.forEach(Arrays.asList("a"), 0, this::start, null));
+    }
+    // endregion
+
+    @Test
+    public void completedFutureHasResult() {
+        Object[] result = { "unset" };
+        RepositoryFuture.completed(null).whenComplete(value -> result[0] = value, e -> {});
+
+        assertNull(result[0]);
+    }
+}
@@ -0,0 +1,118 @@
+package com.signkorea.cloud.sample.models;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+// 검증 데이터 (src/test/resources/signature, OpenSSL로 생성한 RSA 2048 자체 서명 인증서)
+// attached.p7s:        openssl cms -sign -binary -nodetach -md sha256 (signedAttrs 포함)
+// attached-noattr.p7s: openssl cms -sign -binary -nodetach -noattr -md sha256
+// detached.p7s:        openssl cms -sign -binary -md sha256 (분리 서명)
+// brief.sig:           openssl dgst -sha256 -sign (축약서명과 같은 PKCS#1 v1.5 서명값)
+public class SignatureVerifierTest {
+    private static final byte[] PLAIN = "sign plain".getBytes(StandardCharsets.UTF_8);
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream in = SignatureVerifierTest.class.getResourceAsStream("/signature/" + name)) {
+            if (in == null)
+                throw new IOException("테스트 데이터가 없습니다: " + name);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1)
+                out.write(buffer, 0, read);
+            return out.toByteArray();
+        }
+    }
+
+    private static X509Certificate certificate(String name) throws Exception {
+        return (X509Certificate) CertificateFactory.getInstance("X.509")
+                .generateCertificate(new ByteArrayInputStream(resource(name)));
+    }
+
+    private static VerificationResult verify(String signature, String signer, byte[] plain) throws Exception {
+        return SignatureVerifier.verify(resource(signature), certificate(signer), plain);
+    }
+
+    @Test
+    public void acceptsCmsWithSignedAttributes() throws Exception {
+        VerificationResult result = verify("attached.p7s", "signer.der", PLAIN);
+
+        assertTrue(result.toString(), result.isValid());
+    }
+
+    @Test
+    public void acceptsCmsWithoutSignedAttributes() throws Exception {
+        VerificationResult result = verify("attached-noattr.p7s", "signer.der", PLAIN);
+
+        assertTrue(result.toString(), result.isValid());
+    }
+
+    @Test
+    public void acceptsDetachedCms() throws Exception {
+        VerificationResult result = verify("detached.p7s", "signer.der", PLAIN);
+
+        assertTrue(result.toString(), result.isValid());
+    }
+
+    @Test
+    public void acceptsBriefSignature() throws Exception {
+        VerificationResult result = verify("brief.sig", "signer.der", PLAIN);
+
+        assertTrue(result.toString(), result.isValid());
+    }
+
+    @Test
+    public void rejectsDifferentPlainForAttachedCms() throws Exception {
+        VerificationResult result = verify("attached.p7s", "signer.der", "other plain".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(result.isValid());
+        assertEquals("서명 원문이 일치하지 않습니다.", result.getReason());
+    }
+
+    @Test
+    public void rejectsDifferentPlainForDetachedCms() throws Exception {
+        VerificationResult result = verify("detached.p7s", "signer.der", "other plain".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(result.isValid());
+        assertEquals("원문의 해시값이 일치하지 않습니다.", result.getReason());
+    }
+
+    @Test
+    public void rejectsOtherSignerCertificate() throws Exception {
+        VerificationResult result = verify("attached.p7s", "other.der", PLAIN);
+
+        assertFalse(result.isValid());
+        assertEquals("서명자 인증서가 일치하지 않습니다.", result.getReason());
+    }
+
+    @Test
+    public void rejectsTamperedSignatureValue() throws Exception {
+        // 서명값(SignerInfo의 마지막 OCTET STRING)은 CMS의 마지막 바이트
+        byte[] signature = resource("attached.p7s");
+        signature[signature.length - 1] ^= 0x01;
+
+        VerificationResult result = SignatureVerifier.verify(signature, certificate("signer.der"), PLAIN);
+
+        assertFalse(result.isValid());
+        assertEquals("서명값이 올바르지 않습니다.", result.getReason());
+    }
+
+    @Test
+    public void rejectsBriefSignatureOfOtherSigner() throws Exception {
+        VerificationResult result = verify("brief.sig", "other.der", PLAIN);
+
+        assertFalse(result.isValid());
+    }
+}
@@ -0,0 +1,117 @@
+package com.signkorea.cloud.sample.models;
+
+import com.signkorea.cloud.KSCertificateExt;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SingleFlightTest {
+    private final TestRepository repo = new TestRepository();
+
+    // 완료 전까지 SDK 콜백을 보관하는 호출
+    private final List<Consumer<String>> pendingCompletions = new ArrayList<>();
+    private final List<Consumer<Exception>> pendingErrors = new ArrayList<>();
+
+    private void call(String key, List<String> results, List<Exception> errors) {
+        repo.singleFlight(key, (Consumer<String> done, Consumer<Exception> fail) -> {
+            pendingCompletions.add(done);
+            pendingErrors.add(fail);
+        }, results::add, errors::add);
+    }
+
+    @Test
+    public void concurrentCallsWithSameKeyShareOneCall() {
+        List<String> results = new ArrayList<>();
+        List<Exception> errors = new ArrayList<>();
+
+        call("load", results, errors);
+        call("load", results, errors);
+        call("load", results, errors);
+        assertEquals(1, pendingCompletions.size());
+
+        pendingCompletions.get(0).accept("certs");
+        assertEquals(3, results.size());
+        for (String result : results)
+            assertEquals("certs", result);
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void errorIsDeliveredToAllWaiters() {
+        List<String> results = new ArrayList<>();
+        List<Exception> errors = new ArrayList<>();
+        Exception error = new IllegalStateException("network");
+
+        call("load", results, errors);
+        call("load", results, errors);
+        pendingErrors.get(0).accept(error);
+
+        assertTrue(results.isEmpty());
+        assertEquals(2, errors.size());
+        assertSame(error, errors.get(0));
+        assertSame(error, errors.get(1));
+    }
+
+    @Test
+    public void callAfterCompletionStartsNewCall() {
+        List<String> results = new ArrayList<>();
+        List<Exception> errors = new ArrayList<>();
+
+        call("load", results, errors);
+        pendingCompletions.get(0).accept("first");
+        call("load", results, errors);
+        assertEquals(2, pendingCompletions.size());
+
+        pendingCompletions.get(1).accept("second");
+        assertEquals(2, results.size());
+        assertEquals("second", results.get(1));
+    }
+
+    @Test
+    public void differentKeysAreNotCoalesced() {
+        List<String> results = new ArrayList<>();
+        List<Exception> errors = new ArrayList<>();
+
+        call("cloud", results, errors);
+        call("local", results, errors);
+        assertEquals(2, pendingCompletions.size());
+
+        pendingCompletions.get(0).accept("cloud certs");
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    public void throwingCallFailsWaitersAndReleasesKey() {
+        List<Exception> errors = new ArrayList<>();
+        RuntimeException error = new IllegalStateException("not initialized");
+
+        repo.singleFlight("load", (Consumer<String> done, Consumer<Exception> fail) -> {
+            throw error;
+        }, result -> {}, errors::add);
+        assertEquals(1, errors.size());
+        assertSame(error, errors.get(0));
+
+        // 실패한 호출은 목록에서 제거되어 다음 호출은 새로 진행
+        call("load", new ArrayList<>(), errors);
+        assertEquals(1, pendingCompletions.size());
+    }
+
+    private static class TestRepository extends Repository {
+        @Override
+        public RepositoryFuture<List<KSCertificateExt>> loadCertificatesAsync() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected String getSnapshotName() {
+            return "test";
+        }
+    }
+}
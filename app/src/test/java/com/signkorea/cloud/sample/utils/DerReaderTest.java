@@ -0,0 +1,98 @@
+package com.signkorea.cloud.sample.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class DerReaderTest {
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++)
+            bytes[i] = (byte) values[i];
+        return bytes;
+    }
+
+    @Test
+    public void readsNestedValues() throws IOException {
+        // SEQUENCE { INTEGER 5, OCTET STRING 0x0102 }
+        DerReader reader = new DerReader(bytes(0x30, 0x07, 0x02, 0x01, 0x05, 0x04, 0x02, 0x01, 0x02));
+
+        DerReader.Element sequence = reader.next(DerReader.SEQUENCE);
+        assertFalse(reader.hasNext());
+
+        DerReader children = sequence.children();
+        assertEquals(BigInteger.valueOf(5), children.next().integer());
+        DerReader.Element octets = children.next(DerReader.OCTET_STRING);
+        assertArrayEquals(bytes(0x01, 0x02), octets.content());
+        assertArrayEquals(bytes(0x04, 0x02, 0x01, 0x02), octets.encoded());
+        assertFalse(children.hasNext());
+    }
+
+    @Test
+    public void readsLongFormLength() throws IOException {
+        byte[] data = new byte[3 + 200];
+        data[0] = DerReader.OCTET_STRING;
+        data[1] = (byte) 0x81;
+        data[2] = (byte) 200;
+
+        DerReader.Element element = new DerReader(data).next();
+
+        assertEquals(200, element.length);
+        assertEquals(200, element.content().length);
+    }
+
+    @Test
+    public void decodesObjectIdentifiers() throws IOException {
+        assertEquals("1.2.840.113549.1.7.2", new DerReader(
+                bytes(0x06, 0x09, 0x2a, 0x86, 0x48, 0x86, 0xf7, 0x0d, 0x01, 0x07, 0x02)).next().oid());
+        assertEquals("2.16.840.1.101.3.4.2.1", new DerReader(
+                bytes(0x06, 0x09, 0x60, 0x86, 0x48, 0x01, 0x65, 0x03, 0x04, 0x02, 0x01)).next().oid());
+    }
+
+    @Test
+    public void decodesNegativeInteger() throws IOException {
+        assertEquals(BigInteger.valueOf(-1), new DerReader(bytes(0x02, 0x01, 0xff)).next().integer());
+    }
+
+    @Test
+    public void rejectsUnexpectedTag() {
+        DerReader reader = new DerReader(bytes(0x31, 0x00));
+
+        assertThrows(IOException.class, () -> reader.next(DerReader.SEQUENCE));
+    }
+
+    @Test
+    public void rejectsIndefiniteLength() {
+        assertThrows(IOException.class, () -> new DerReader(bytes(0x30, 0x80, 0x00, 0x00)).next());
+    }
+
+    @Test
+    public void rejectsLengthBeyondData() {
+        assertThrows(IOException.class, () -> new DerReader(bytes(0x04, 0x05, 0x01)).next());
+        assertThrows(IOException.class, () -> new DerReader(bytes(0x04, 0x82, 0x01)).next());
+    }
+
+    @Test
+    public void rejectsHighTagNumber() {
+        assertThrows(IOException.class, () -> new DerReader(bytes(0x1f, 0x81, 0x01, 0x00)).next());
+    }
+
+    @Test
+    public void childrenDoNotReadPastParent() throws IOException {
+        // SEQUENCE { INTEGER 1 } 뒤에 INTEGER 2
+        DerReader reader = new DerReader(bytes(0x30, 0x03, 0x02, 0x01, 0x01, 0x02, 0x01, 0x02));
+        DerReader children = reader.next().children();
+
+        children.next();
+        assertFalse(children.hasNext());
+        assertThrows(IOException.class, children::next);
+        assertTrue(reader.hasNext());
+    }
+}
@@ -0,0 +1,93 @@
+package com.signkorea.cloud.sample.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+    @Test
+    public void smallValuesHaveTheirOwnBuckets() {
+        for (int value = 0; value < 16; value++) {
+            assertEquals(value, LatencyHistogram.indexOf(value));
+            assertEquals(value, LatencyHistogram.upperBoundOf(value));
+        }
+    }
+
+    @Test
+    public void everyValueFallsWithinItsBucket() {
+        long previousUpperBound = -1;
+        for (int index = 0; index < 200; index++) {
+            long upperBound = LatencyHistogram.upperBoundOf(index);
+            assertTrue("구간 상한은 증가해야 함: " + index, upperBound > previousUpperBound);
+            assertEquals(index, LatencyHistogram.indexOf(upperBound));
+            assertEquals(index, LatencyHistogram.indexOf(previousUpperBound + 1));
+            previousUpperBound = upperBound;
+        }
+    }
+
+    @Test
+    public void bucketUpperBoundIsWithinRelativeError() {
+        for (long value = 16; value < 10_000_000; value = value * 3 / 2 + 1) {
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(value));
+            assertTrue(value + " -> " + upperBound, upperBound >= value);
+            assertTrue(value + " -> " + upperBound, upperBound - value <= value / 16);
+        }
+    }
+
+    @Test
+    public void hugeValuesGoToLastBucket() {
+        int last = LatencyHistogram.indexOf(Long.MAX_VALUE);
+
+        assertEquals(last, LatencyHistogram.indexOf(1L << 41));
+        assertTrue(LatencyHistogram.indexOf(1L << 40) <= last);
+    }
+
+    @Test
+    public void summaryStatistics() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 100; value++)
+            histogram.record(value * 1000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(1000, histogram.getMin());
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(50_500, histogram.getMean(), 0.001);
+    }
+
+    @Test
+    public void percentileIsUpperBoundOfBucketCappedAtMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 100; value++)
+            histogram.record(value * 1000);
+
+        long p50 = histogram.getPercentile(50);
+        assertTrue("p50=" + p50, p50 >= 50_000 && p50 <= 50_000 * 17 / 16);
+        long p99 = histogram.getPercentile(99);
+        assertTrue("p99=" + p99, p99 >= 99_000 && p99 <= 100_000);
+        assertEquals(100_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void negativeValuesAreRecordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void emptyAndResetHistogramReportZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99));
+        assertEquals(0, histogram.getMin());
+
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean(), 0);
+    }
+}
@@ -0,0 +1,139 @@
+package com.signkorea.cloud.sample.views;
+
+import android.os.Looper;
+
+import com.signkorea.cloud.sample.models.RepositoryStartup;
+import com.signkorea.cloud.sample.utils.StartupTracer;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.robolectric.Shadows.shadowOf;
+
+// 앱 시작 구간 벤치마크 (Robolectric)
+// 실제 MainActivity.onCreate → RepositoryStartup.start 경로를 반복 실행하여 구간별 p50/p90/max를 출력하고
+// p50이 startup-thresholds.properties의 기준 시간을 넘으면 실패
+// SDK 초기화(라이선스 확인)만 ManagerFactory로 대체하여 지연을 재현 (첫 목록 로딩은 SDK가 필요해 측정하지 않음)
+// 실행 시간에 민감하므로 기본 테스트에서는 건너뜀
+// 실행: ./gradlew :app:testDebugUnitTest --tests '*StartupBenchmarkTest' -PstartupBenchmark
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class StartupBenchmarkTest {
+    private static final long LICENSE_CHECK_MILLIS = 120;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final long INIT_TIMEOUT_MILLIS = 10_000;
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue("시작 벤치마크는 -PstartupBenchmark 지정 시에만 실행",
+                Boolean.getBoolean("startupBenchmark"));
+
+        // 실제 SDK 대신 라이선스 확인 시간만큼 대기 후 관리자 없이 초기화 완료
+        RepositoryStartup.getInstance().setManagerFactory((appContext, clientDelegate, cmpDelegate) -> {
+            Thread.sleep(LICENSE_CHECK_MILLIS);
+            return null;
+        });
+    }
+
+    @After
+    public void tearDown() {
+        RepositoryStartup.getInstance().reset();
+    }
+
+    @Test
+    public void coldStartStaysWithinThresholds() throws Exception {
+        int iterations = Integer.getInteger("startupIterations", 20);
+        Properties thresholds = loadThresholds();
+
+        Map<String, List<Long>> samples = new LinkedHashMap<>();
+        for (int i = 0; i < WARMUP_ITERATIONS + iterations; i++) {
+            Map<String, Long> durations = runColdStart();
+            if (i < WARMUP_ITERATIONS)
+                continue;
+
+            durations.forEach((phase, nanos) -> {
+                if (nanos >= 0)
+                    samples.computeIfAbsent(phase, key -> new ArrayList<>()).add(nanos);
+            });
+        }
+
+        List<String> regressed = new ArrayList<>();
+        System.out.printf(Locale.US, "%-28s %10s %10s %10s %12s%n",
+                "phase", "p50(ms)", "p90(ms)", "max(ms)", "limit(p50)");
+        for (Map.Entry<String, List<Long>> entry : samples.entrySet()) {
+            String phase = entry.getKey();
+            long[] sorted = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+
+            double p50 = percentile(sorted, 50) / 1e6;
+            double p90 = percentile(sorted, 90) / 1e6;
+            double max = sorted[sorted.length - 1] / 1e6;
+            String limit = thresholds.getProperty(phase);
+            if (limit != null && p50 > Double.parseDouble(limit))
+                regressed.add(phase);
+
+            System.out.printf(Locale.US, "%-28s %10.1f %10.1f %10.1f %12s%s%n",
+                    phase, p50, p90, max, limit != null ? limit : "-",
+                    regressed.contains(phase) ? "  <- 기준 초과" : "");
+        }
+
+        assertTrue("기준 시간을 초과한 시작 구간: " + regressed, regressed.isEmpty());
+    }
+
+    // 콜드 스타트 한 번: Activity 생성 후 인증서 관리자 초기화 완료까지
+    private Map<String, Long> runColdStart() throws InterruptedException {
+        StartupTracer tracer = StartupTracer.getInstance();
+        tracer.reset();
+        RepositoryStartup.getInstance().reset();
+
+        ActivityController<MainActivity> controller = Robolectric.buildActivity(MainActivity.class).setup();
+        try {
+            // 초기화 결과는 메인 스레드로 전달되므로 완료될 때까지 메인 루퍼 실행
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(INIT_TIMEOUT_MILLIS);
+            while (!tracer.isFinished(StartupTracer.REPOSITORY_INIT)) {
+                if (System.nanoTime() > deadline)
+                    fail("인증서 관리자 초기화가 " + INIT_TIMEOUT_MILLIS + "ms 내에 끝나지 않았습니다.");
+
+                shadowOf(Looper.getMainLooper()).idle();
+                Thread.sleep(1);
+            }
+            return tracer.getDurationsNanos();
+        } finally {
+            controller.pause().stop().destroy();
+        }
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static Properties loadThresholds() throws IOException {
+        Properties thresholds = new Properties();
+        try (InputStream in = StartupBenchmarkTest.class.getResourceAsStream("/startup-thresholds.properties")) {
+            if (in != null)
+                thresholds.load(in);
+        }
+        return thresholds;
+    }
+}
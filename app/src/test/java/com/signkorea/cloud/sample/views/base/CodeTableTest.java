@@ -0,0 +1,63 @@
+package com.signkorea.cloud.sample.views.base;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class CodeTableTest {
+    @Test
+    public void findsRegisteredCodesInAnyInsertionOrder() {
+        CodeTable<String> table = new CodeTable.Builder<String>()
+                .put(3002, "pin lock")
+                .put(-5, "negative")
+                .put(1001, "old certificate")
+                .build();
+
+        assertEquals("old certificate", table.get(1001));
+        assertEquals("pin lock", table.get(3002));
+        assertEquals("negative", table.get(-5));
+    }
+
+    @Test
+    public void unknownCodeIsNull() {
+        CodeTable<String> table = new CodeTable.Builder<String>()
+                .put(1001, "old certificate")
+                .put(1003, "not allowed")
+                .build();
+
+        assertNull(table.get(1002));
+        assertNull(table.get(0));
+        assertNull(table.get(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void emptyTableHasNoCodes() {
+        assertNull(new CodeTable.Builder<String>().build().get(1));
+    }
+
+    @Test
+    public void rangeValuesArePrebuiltPerCode() {
+        CodeTable<String> table = new CodeTable.Builder<String>()
+                .putRange(9000, 9009, code -> "FDS(" + code + ")")
+                .build();
+
+        assertEquals("FDS(9000)", table.get(9000));
+        assertEquals("FDS(9009)", table.get(9009));
+        assertNull(table.get(9010));
+        // 조회할 때마다 새로 만들지 않고 같은 값 반환
+        assertSame(table.get(9005), table.get(9005));
+    }
+
+    @Test
+    public void laterEntryReplacesEarlierOne() {
+        CodeTable<String> table = new CodeTable.Builder<String>()
+                .putRange(9000, 9009, code -> "FDS")
+                .put(9003, "override")
+                .build();
+
+        assertEquals("override", table.get(9003));
+        assertEquals("FDS", table.get(9004));
+    }
+}
@@ -0,0 +1,154 @@
+package com.signkorea.cloud.sample.benchmark.binding;
+
+import com.signkorea.cloud.sample.benchmark.binding.SyntheticScreens.BindingFactory;
+import com.signkorea.cloud.sample.benchmark.binding.SyntheticScreens.LayoutInflater;
+import com.signkorea.cloud.sample.benchmark.binding.SyntheticScreens.LoginBinding;
+import com.signkorea.cloud.sample.benchmark.binding.SyntheticScreens.LoginViewModel;
+import com.signkorea.cloud.sample.benchmark.binding.SyntheticScreens.LoginViewModelFragment;
+import com.signkorea.cloud.sample.benchmark.binding.SyntheticScreens.LoginViewModelFragment_BindingFactory;
+import com.signkorea.cloud.sample.benchmark.binding.SyntheticScreens.ViewGroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 화면 생성 시 바인딩/뷰모델 연결 비용 비교
+// - uncached: 기존 DataBindingFragment/ViewModelFragment처럼 매번 getGenericSuperclass, getMethod 호출
+// - classValue: 화면 클래스별 메타데이터를 ClassValue에 캐시 (JVM 기준, Android는 API 34부터 지원)
+// - concurrentMap: BindingFactories와 같이 ConcurrentHashMap에 캐시
+// - generated: BindingFactoryProcessor가 생성하는 팩토리 (리플렉션 없음)
+// 할당량은 gc 프로파일러(-prof gc)의 gc.alloc.rate.norm으로 확인
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BindingReflectionBenchmark {
+    private static final ClassValue<Type[]> typeArguments = new ClassValue<Type[]>() {
+        @Override
+        protected Type[] computeValue(Class<?> type) {
+            return ((ParameterizedType) type.getGenericSuperclass()).getActualTypeArguments();
+        }
+    };
+
+    private static final ClassValue<ScreenMetadata> metadata = new ClassValue<ScreenMetadata>() {
+        @Override
+        protected ScreenMetadata computeValue(Class<?> type) {
+            return new ScreenMetadata(type);
+        }
+    };
+
+    private static final Map<Class<?>, ScreenMetadata> metadataMap = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, BindingFactory<?>> factories = new ConcurrentHashMap<>();
+
+    private final Class<?> screen = LoginViewModelFragment.class;
+    private final LayoutInflater inflater = new LayoutInflater();
+    private final ViewGroup container = new ViewGroup();
+    private final LoginViewModel viewModel = new LoginViewModel();
+
+    // 화면 클래스별로 한 번만 조회하는 메타데이터 (ReflectiveBindingFactory와 같은 내용)
+    static final class ScreenMetadata {
+        final Class<?> bindingClass;
+        final Class<?> viewModelClass;
+        final Method inflate;
+        final Method setViewModel;
+
+        ScreenMetadata(Class<?> screen) {
+            Type[] arguments = ((ParameterizedType) screen.getGenericSuperclass()).getActualTypeArguments();
+            bindingClass = (Class<?>) arguments[0];
+            viewModelClass = (Class<?>) arguments[1];
+            try {
+                inflate = bindingClass.getMethod("inflate", LayoutInflater.class, ViewGroup.class, boolean.class);
+                setViewModel = bindingClass.getMethod("setViewModel", viewModelClass);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // region 타입 인자 조회 (ReflectiveBindingFactory)
+    @Benchmark
+    public Object resolveTypeArguments_uncached() {
+        return ((ParameterizedType) screen.getGenericSuperclass()).getActualTypeArguments()[1];
+    }
+
+    @Benchmark
+    public Object resolveTypeArguments_classValue() {
+        return typeArguments.get(screen)[1];
+    }
+
+    @Benchmark
+    public Object resolveTypeArguments_concurrentMap() {
+        return metadataMap.computeIfAbsent(screen, ScreenMetadata::new).viewModelClass;
+    }
+    // endregion
+
+    // region 메소드 조회
+    @Benchmark
+    public Object lookupMethod_uncached() throws Exception {
+        Class<?> bindingClass = (Class<?>) ((ParameterizedType) screen.getGenericSuperclass()).getActualTypeArguments()[0];
+        return bindingClass.getMethod("inflate", LayoutInflater.class, ViewGroup.class, boolean.class);
+    }
+
+    @Benchmark
+    public Object lookupMethod_classValue() {
+        return metadata.get(screen).inflate;
+    }
+    // endregion
+
+    // region 바인딩 생성 + 뷰모델 연결 (onCreateView + onViewCreated)
+    @Benchmark
+    public Object createScreen_uncached() throws Exception {
+        Type[] arguments = ((ParameterizedType) screen.getGenericSuperclass()).getActualTypeArguments();
+        Class<?> bindingClass = (Class<?>) arguments[0];
+        Object binding = bindingClass.getMethod("inflate", LayoutInflater.class, ViewGroup.class, boolean.class)
+                .invoke(null, inflater, container, false);
+
+        Class<?> viewModelClass = (Class<?>) ((ParameterizedType) screen.getGenericSuperclass()).getActualTypeArguments()[1];
+        bindingClass.getMethod("setViewModel", viewModelClass).invoke(binding, viewModel);
+        return binding;
+    }
+
+    @Benchmark
+    public Object createScreen_classValue() throws Exception {
+        ScreenMetadata screenMetadata = metadata.get(screen);
+        Object binding = screenMetadata.inflate.invoke(null, inflater, container, false);
+        screenMetadata.setViewModel.invoke(binding, viewModel);
+        return binding;
+    }
+
+    @Benchmark
+    public Object createScreen_concurrentMap() throws Exception {
+        ScreenMetadata screenMetadata = metadataMap.computeIfAbsent(screen, ScreenMetadata::new);
+        Object binding = screenMetadata.inflate.invoke(null, inflater, container, false);
+        screenMetadata.setViewModel.invoke(binding, viewModel);
+        return binding;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object createScreen_generated() {
+        BindingFactory<LoginBinding> factory = (BindingFactory<LoginBinding>)
+                factories.computeIfAbsent(screen, ignored -> new LoginViewModelFragment_BindingFactory());
+        LoginBinding binding = factory.inflate(inflater, container);
+        factory.bindViewModel(binding, viewModel);
+        return binding;
+    }
+
+    // 하한값: 바인딩 클래스를 직접 호출
+    @Benchmark
+    public Object createScreen_direct() {
+        LoginBinding binding = LoginBinding.inflate(inflater, container, false);
+        binding.setViewModel(viewModel);
+        return binding;
+    }
+    // endregion
+}
@@ -0,0 +1,108 @@
+package com.signkorea.cloud.sample.benchmark.binding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// JVM에서 실행할 수 있도록 Android 화면/바인딩 구조를 흉내 낸 클래스
+// 바인딩은 FragmentLoginBinding처럼 뷰 필드 여러 개와 static inflate(LayoutInflater, ViewGroup, boolean)를 가짐
+public final class SyntheticScreens {
+    private SyntheticScreens() {}
+
+    public static class LayoutInflater {}
+
+    public static class ViewGroup {}
+
+    public static class View {
+        final List<View> children = new ArrayList<>();
+    }
+
+    public static class ViewModel {}
+
+    public static class LoginViewModel extends ViewModel {}
+
+    public abstract static class ViewDataBinding {
+        protected final View root;
+
+        protected ViewDataBinding(View root) {
+            this.root = root;
+        }
+
+        public View getRoot() {
+            return root;
+        }
+    }
+
+    public static class LoginBinding extends ViewDataBinding {
+        public final View certButton;
+        public final View koscomCmsSign;
+        public final View koscomBriefSign;
+        public final View getRandom;
+        public final View deleteBio;
+        public final View authTypeBtnPin;
+        public final View authTypeBtnFinger;
+        public final View selectdnText;
+        private LoginViewModel viewModel;
+
+        LoginBinding(View root) {
+            super(root);
+            certButton = add(root);
+            koscomCmsSign = add(root);
+            koscomBriefSign = add(root);
+            getRandom = add(root);
+            deleteBio = add(root);
+            authTypeBtnPin = add(root);
+            authTypeBtnFinger = add(root);
+            selectdnText = add(root);
+        }
+
+        private static View add(View root) {
+            View view = new View();
+            root.children.add(view);
+            return view;
+        }
+
+        public static LoginBinding inflate(LayoutInflater inflater, ViewGroup container, boolean attachToParent) {
+            return new LoginBinding(new View());
+        }
+
+        public void setViewModel(LoginViewModel viewModel) {
+            this.viewModel = viewModel;
+        }
+    }
+
+    // DataBindingFragment<BindingT>, ViewModelFragment<BindingT, ViewModelT>와 같은 상속 구조
+    public static class DataBindingFragment<BindingT extends ViewDataBinding> {}
+
+    public abstract static class ViewModelFragment<BindingT extends ViewDataBinding, ViewModelT extends ViewModel>
+            extends DataBindingFragment<BindingT> {}
+
+    public static class LoginFragment extends DataBindingFragment<LoginBinding> {}
+
+    public static class LoginViewModelFragment extends ViewModelFragment<LoginBinding, LoginViewModel> {}
+
+    // BindingFactoryProcessor가 생성하는 코드와 같은 형태의 팩토리
+    public interface BindingFactory<BindingT> {
+        BindingT inflate(LayoutInflater inflater, ViewGroup container);
+
+        Class<? extends ViewModel> getViewModelClass();
+
+        void bindViewModel(BindingT binding, ViewModel viewModel);
+    }
+
+    public static final class LoginViewModelFragment_BindingFactory implements BindingFactory<LoginBinding> {
+        @Override
+        public LoginBinding inflate(LayoutInflater inflater, ViewGroup container) {
+            return LoginBinding.inflate(inflater, container, false);
+        }
+
+        @Override
+        public Class<? extends ViewModel> getViewModelClass() {
+            return LoginViewModel.class;
+        }
+
+        @Override
+        public void bindViewModel(LoginBinding binding, ViewModel viewModel) {
+            binding.setViewModel((LoginViewModel) viewModel);
+        }
+    }
+}
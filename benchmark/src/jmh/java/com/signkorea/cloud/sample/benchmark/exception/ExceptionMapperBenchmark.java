@@ -0,0 +1,172 @@
+package com.signkorea.cloud.sample.benchmark.exception;
+
+import com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.CancelException;
+import com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.CloudAPIException;
+import com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.IncorrectPasscodeException;
+import com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.InvalidLicenseException;
+import com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.InvalidPinException;
+import com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.KSException;
+import com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.NonmemberException;
+import com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.NotCachedCertificateException;
+import com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.UnknownException;
+import com.signkorea.cloud.sample.views.base.CodeTable;
+import com.signkorea.cloud.sample.views.base.ExceptionMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.FDS_DETECT;
+import static com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.NOT_ALLOW_CERT;
+import static com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.NOT_ALLOW_TIME;
+import static com.signkorea.cloud.sample.benchmark.exception.SyntheticExceptions.PIN_LOCK;
+
+// 예외 → 오류 메시지 변환 비용 비교
+// - legacy: 기존 ExceptionMapper (등록 목록을 매번 isAssignableFrom으로 순회, switch + String.format)
+// - table: 예외 클래스별 캐시 + CodeTable (이상거래 탐지 메시지는 미리 생성)
+// 할당량은 gc 프로파일러(-prof gc)의 gc.alloc.rate.norm으로 확인
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionMapperBenchmark {
+    private static final LegacyExceptionMapper legacy = new LegacyExceptionMapper()
+        .is(IncorrectPasscodeException.class, e -> String.format("인증서 PIN이 일치하지 않습니다. [%d/%d]", e.failed, e.max))
+        .is(NonmemberException.class, ignored -> "공동인증 서비스 회원이 아닙니다.")
+        .is(CancelException.class, ignored -> "클라우드 서비스 연결 후 이용해주세요.")
+        .is(CloudAPIException.class, e -> {
+            switch (e.code) {
+                case PIN_LOCK: return "PIN 5회 오류로 인해 인증서가 잠겼습니다.";
+                case NOT_ALLOW_CERT: return "Cloud에 등록할 수 없는 인증서입니다.";
+                case NOT_ALLOW_TIME: return "Cloud 사용 제한 시간입니다.";
+                case FDS_DETECT:
+                case FDS_DETECT + 1:
+                case FDS_DETECT + 2:
+                case FDS_DETECT + 3:
+                case FDS_DETECT + 4:
+                case FDS_DETECT + 5:
+                case FDS_DETECT + 6:
+                case FDS_DETECT + 7:
+                case FDS_DETECT + 8:
+                case FDS_DETECT + 9:
+                    return String.format("Cloud에서 이상거래가 탐지되었습니다.(%d)", e.code);
+                default:
+                    return String.format("서비스 장애가 발생하였습니다.[%d:%s]", e.code, e.getMessage());
+            }
+        })
+        .is(InvalidLicenseException.class, ignored -> "클라우드 라이선스 정보가 유효하지 않습니다.")
+        .is(InvalidPinException.class, ignored -> "제한된 PIN 입력 형식")
+        .is(NotCachedCertificateException.class, ignored -> "인증서를 캐시에서 찾을 수 없습니다.")
+        .is(KSException.class, Throwable::getMessage)
+        .is(RuntimeException.class, Throwable::getMessage)
+        .orElse(ignored -> "알 수 없는 오류가 발생하였습니다.");
+
+    private static final CodeTable<String> cloudApiMessages = new CodeTable.Builder<String>()
+        .put(PIN_LOCK, "PIN 5회 오류로 인해 인증서가 잠겼습니다.")
+        .put(NOT_ALLOW_CERT, "Cloud에 등록할 수 없는 인증서입니다.")
+        .put(NOT_ALLOW_TIME, "Cloud 사용 제한 시간입니다.")
+        .putRange(FDS_DETECT, FDS_DETECT + 9, code -> String.format("Cloud에서 이상거래가 탐지되었습니다.(%d)", code))
+        .build();
+
+    private static final ExceptionMapper<String> table = new ExceptionMapper<String>()
+        .is(IncorrectPasscodeException.class, e -> "인증서 PIN이 일치하지 않습니다. [" + e.failed + "/" + e.max + "]")
+        .is(NonmemberException.class, ignored -> "공동인증 서비스 회원이 아닙니다.")
+        .is(CancelException.class, ignored -> "클라우드 서비스 연결 후 이용해주세요.")
+        .is(CloudAPIException.class, e -> {
+            String message = cloudApiMessages.get(e.code);
+            return message != null ? message : "서비스 장애가 발생하였습니다.[" + e.code + ":" + e.getMessage() + "]";
+        })
+        .is(InvalidLicenseException.class, ignored -> "클라우드 라이선스 정보가 유효하지 않습니다.")
+        .is(InvalidPinException.class, ignored -> "제한된 PIN 입력 형식")
+        .is(NotCachedCertificateException.class, ignored -> "인증서를 캐시에서 찾을 수 없습니다.")
+        .is(KSException.class, Throwable::getMessage)
+        .is(RuntimeException.class, Throwable::getMessage)
+        .orElse(ignored -> "알 수 없는 오류가 발생하였습니다.");
+
+    private final Exception fds = new CloudAPIException(FDS_DETECT + 3, "fds");
+    private final Exception cloudUnknownCode = new CloudAPIException(9999, "internal");
+    private final Exception runtime = new IllegalStateException("state");
+    private final Exception unknown = new UnknownException();
+
+    // region 이상거래 탐지 코드 (CloudAPIException 범위 코드)
+    @Benchmark
+    public String fds_legacy() {
+        return legacy.apply(fds);
+    }
+
+    @Benchmark
+    public String fds_table() {
+        return table.apply(fds);
+    }
+    // endregion
+
+    // region 등록되지 않은 CloudAPIException 코드 (메시지 조합 필요)
+    @Benchmark
+    public String cloudUnknownCode_legacy() {
+        return legacy.apply(cloudUnknownCode);
+    }
+
+    @Benchmark
+    public String cloudUnknownCode_table() {
+        return table.apply(cloudUnknownCode);
+    }
+    // endregion
+
+    // region 등록 목록 뒤쪽의 예외 (RuntimeException 하위 클래스)
+    @Benchmark
+    public String runtime_legacy() {
+        return legacy.apply(runtime);
+    }
+
+    @Benchmark
+    public String runtime_table() {
+        return table.apply(runtime);
+    }
+    // endregion
+
+    // region 등록되지 않은 예외 (orElse)
+    @Benchmark
+    public String unknown_legacy() {
+        return legacy.apply(unknown);
+    }
+
+    @Benchmark
+    public String unknown_table() {
+        return table.apply(unknown);
+    }
+    // endregion
+
+    // 기존 DataBindingFragment.ExceptionMapper와 같은 구현
+    static class LegacyExceptionMapper {
+        private final List<Object[]> chain = new LinkedList<>();
+        private Function<Exception, String> orElse;
+
+        @SuppressWarnings("unchecked")
+        <T extends Exception> LegacyExceptionMapper is(Class<T> cls, Function<T, String> fn) {
+            chain.add(new Object[] { cls, (Function<Object, String>) o -> fn.apply((T) o) });
+            return this;
+        }
+
+        LegacyExceptionMapper orElse(Function<Exception, String> orElse) {
+            this.orElse = orElse;
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        String apply(Exception exception) {
+            Class<?> cls = exception.getClass();
+            for (Object[] entry : chain) {
+                if (((Class<?>) entry[0]).isAssignableFrom(cls))
+                    return ((Function<Object, String>) entry[1]).apply(exception);
+            }
+            return orElse.apply(exception);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.signkorea.cloud.sample.benchmark.exception;
+
+// SDK 예외 클래스 대용 (DataBindingFragment의 exceptionMapper 등록 순서와 같은 구성)
+final class SyntheticExceptions {
+    static final int PIN_LOCK = 4003;
+    static final int NOT_ALLOW_CERT = 4010;
+    static final int NOT_ALLOW_TIME = 4011;
+    static final int FDS_DETECT = 5100;
+
+    private SyntheticExceptions() {}
+
+    static class IncorrectPasscodeException extends Exception {
+        final int failed;
+        final int max;
+
+        IncorrectPasscodeException(int failed, int max) {
+            this.failed = failed;
+            this.max = max;
+        }
+    }
+
+    static class NonmemberException extends Exception {}
+
+    static class CancelException extends Exception {}
+
+    static class CloudAPIException extends Exception {
+        final int code;
+
+        CloudAPIException(int code, String message) {
+            super(message);
+            this.code = code;
+        }
+    }
+
+    static class InvalidLicenseException extends Exception {}
+
+    static class InvalidPinException extends Exception {}
+
+    static class NotCachedCertificateException extends Exception {}
+
+    static class KSException extends Exception {
+        KSException(String message) {
+            super(message);
+        }
+    }
+
+    static class UnknownException extends Exception {}
+}
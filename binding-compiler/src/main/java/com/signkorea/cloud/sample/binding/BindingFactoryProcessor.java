@@ -0,0 +1,148 @@
+package com.signkorea.cloud.sample.binding;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+// @GenerateBindingFactory 화면마다 BindingFactory 구현 클래스 생성
+// - 바인딩 클래스: 상위 클래스의 첫 번째 타입 인자 (DataBindingFragment<BindingT>)
+// - 뷰모델 클래스: 두 번째 타입 인자가 있으면 사용 (ViewModelFragment<BindingT, ViewModelT>)
+// 생성 클래스 이름 규칙(<화면>_BindingFactory)은 views.base.BindingFactories와 같아야 함
+public class BindingFactoryProcessor extends AbstractProcessor {
+    static final String SUFFIX = "_BindingFactory";
+    private static final String BINDING_FACTORY = "com.signkorea.cloud.sample.views.base.BindingFactory";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(GenerateBindingFactory.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateBindingFactory.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@GenerateBindingFactory는 클래스에만 지정할 수 있습니다.");
+                continue;
+            }
+
+            try {
+                generate((TypeElement) element);
+            } catch (IOException e) {
+                error(element, "바인딩 팩토리를 생성할 수 없습니다: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement screen) throws IOException {
+        TypeMirror superclass = screen.getSuperclass();
+        List<? extends TypeMirror> arguments = superclass.getKind() == TypeKind.DECLARED
+                ? ((DeclaredType) superclass).getTypeArguments()
+                : Collections.emptyList();
+        if (arguments.isEmpty() || arguments.get(0).getKind() != TypeKind.DECLARED) {
+            error(screen, "상위 클래스의 타입 인자에서 바인딩 클래스를 찾을 수 없습니다.");
+            return;
+        }
+
+        TypeElement binding = (TypeElement) ((DeclaredType) arguments.get(0)).asElement();
+        TypeElement viewModel = arguments.size() > 1 && arguments.get(1).getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) arguments.get(1)).asElement()
+                : null;
+        boolean hasViewModelSetter = viewModel != null && hasSetter(binding, viewModel);
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(screen).getQualifiedName().toString();
+        String className = flatName(screen) + SUFFIX;
+        String bindingName = binding.getQualifiedName().toString();
+
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty())
+            sb.append("package ").append(packageName).append(";\n\n");
+        sb.append("// ").append(BindingFactoryProcessor.class.getSimpleName()).append("에서 생성 (수정 금지)\n");
+        sb.append("public final class ").append(className)
+                .append(" implements ").append(BINDING_FACTORY).append('<').append(bindingName).append("> {\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public ").append(bindingName)
+                .append(" inflate(android.view.LayoutInflater inflater, android.view.ViewGroup container) {\n");
+        sb.append("        return ").append(bindingName).append(".inflate(inflater, container, false);\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public Class<? extends androidx.lifecycle.ViewModel> getViewModelClass() {\n");
+        sb.append("        return ").append(viewModel == null ? "null" : viewModel.getQualifiedName() + ".class").append(";\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public void bindViewModel(").append(bindingName)
+                .append(" binding, androidx.lifecycle.ViewModel viewModel) {\n");
+        if (hasViewModelSetter) {
+            sb.append("        binding.setViewModel((").append(viewModel.getQualifiedName()).append(") viewModel);\n");
+        }
+        sb.append("    }\n");
+        sb.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, screen).openWriter()) {
+            writer.write(sb.toString());
+        }
+    }
+
+    // 바인딩 클래스(상위 클래스 포함)에 setViewModel(ViewModelT)이 있는지 확인
+    private boolean hasSetter(TypeElement binding, TypeElement viewModel) {
+        for (TypeElement type = binding; type != null; type = superclassOf(type)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (method.getSimpleName().contentEquals("setViewModel")
+                        && method.getModifiers().contains(Modifier.PUBLIC)
+                        && method.getParameters().size() == 1
+                        && processingEnv.getTypeUtils().isAssignable(viewModel.asType(),
+                                method.getParameters().get(0).asType()))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+    }
+
+    // 중첩 클래스는 바깥 클래스 이름과 '_'로 연결 (Outer.Inner → Outer_Inner)
+    private static String flatName(TypeElement type) {
+        StringBuilder sb = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement();
+             enclosing != null && !(enclosing instanceof PackageElement);
+             enclosing = enclosing.getEnclosingElement()) {
+            sb.insert(0, '_').insert(0, enclosing.getSimpleName());
+        }
+        return sb.toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,13 @@
+package com.signkorea.cloud.sample.binding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컴파일 시 바인딩 팩토리를 생성할 화면 (DataBindingFragment, ViewModelFragment, DataBindingActivity 하위 클래스)
+// 지정하지 않은 화면은 리플렉션으로 바인딩 생성
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateBindingFactory {
+}